@@ -0,0 +1,25 @@
+package com.example.benchmarks;
+
+import com.example.app.MainApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * main-app without the web server, on its in-memory H2, for benchmarks going through the real beans.
+ * Kafka is never reached: topics are not created and only benchmarks that write items would publish.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... args) {
+        var defaults = Stream.of("--spring.kafka.admin.auto-create=false", "--logging.level.root=WARN");
+        return new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(Stream.concat(defaults, Stream.of(args)).toArray(String[]::new));
+    }
+}
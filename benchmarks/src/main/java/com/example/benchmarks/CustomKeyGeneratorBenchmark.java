@@ -0,0 +1,67 @@
+package com.example.benchmarks;
+
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.services.ItemService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getItemById cache-key hot path: the previous String-concatenating generator against the current one,
+ * alone and followed by a Caffeine lookup. Run with {@code -prof gc} to compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomKeyGeneratorBenchmark {
+
+    private final CustomKeyGenerator keyGenerator = new CustomKeyGenerator();
+    private final Cache<Object, Object> cache = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    private Method getItemById;
+    private UUID uuid;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        getItemById = ItemService.class.getMethod("getItemById", UUID.class);
+        uuid = UUID.randomUUID();
+        cache.put(stringKey(getItemById, uuid), uuid);
+        cache.put(keyGenerator.generate(null, getItemById, uuid), uuid);
+    }
+
+    @Benchmark
+    public Object stringKey() {
+        return stringKey(getItemById, uuid);
+    }
+
+    @Benchmark
+    public Object recordKey() {
+        return keyGenerator.generate(null, getItemById, uuid);
+    }
+
+    @Benchmark
+    public Object stringKeyLookup() {
+        return cache.getIfPresent(stringKey(getItemById, uuid));
+    }
+
+    @Benchmark
+    public Object recordKeyLookup() {
+        return cache.getIfPresent(keyGenerator.generate(null, getItemById, uuid));
+    }
+
+    private static Object stringKey(Method method, Object... params) {
+        return Arrays.stream(params)
+                .filter(obj -> obj instanceof UUID)
+                .map(obj -> method.getName() + obj.toString())
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No UUID parameter found"));
+    }
+}
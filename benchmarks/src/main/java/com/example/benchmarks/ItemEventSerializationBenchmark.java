@@ -0,0 +1,75 @@
+package com.example.benchmarks;
+
+import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemEvents;
+import com.example.events.ItemChangeEvent;
+import com.example.events.ItemChangeEventDeserializer;
+import com.example.events.ItemChangeEventSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item event payload on item_challenge: the former {@code ItemEntity.toString()} String value against the
+ * binary {@link ItemChangeEvent} encoding. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemEventSerializationBenchmark {
+
+    private static final String TOPIC = "item_challenge";
+
+    private final StringSerializer stringSerializer = new StringSerializer();
+    private final StringDeserializer stringDeserializer = new StringDeserializer();
+    private final ItemChangeEventSerializer eventSerializer = new ItemChangeEventSerializer();
+    private final ItemChangeEventDeserializer eventDeserializer = new ItemChangeEventDeserializer();
+
+    private ItemEntity item;
+    private ItemChangeEvent event;
+    private byte[] stringPayload;
+    private byte[] binaryPayload;
+
+    @Setup
+    public void setup() {
+        item = ItemEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Smartphone xyz")
+                .description("Smartphone with a 6.1 inch display")
+                .price(new BigDecimal("1299.90"))
+                .quantity(25)
+                .category("Electronic")
+                .build();
+        event = ItemEvents.created(item);
+        stringPayload = stringSerializer.serialize(TOPIC, item.toString());
+        binaryPayload = eventSerializer.serialize(TOPIC, event);
+        System.out.printf("payload bytes: string=%d binary=%d%n", stringPayload.length, binaryPayload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeString() {
+        return stringSerializer.serialize(TOPIC, item.toString());
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return eventSerializer.serialize(TOPIC, ItemEvents.created(item));
+    }
+
+    @Benchmark
+    public String deserializeString() {
+        return stringDeserializer.deserialize(TOPIC, stringPayload);
+    }
+
+    @Benchmark
+    public ItemChangeEvent deserializeBinary() {
+        return eventDeserializer.deserialize(TOPIC, binaryPayload);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.benchmarks;
+
+import com.example.app.entities.ItemEntity;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Response bodies of the list endpoints: {@code ItemEntity} lists written and read with an ObjectMapper
+ * configured the way Spring Boot configures the one MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemJsonSerializationBenchmark {
+
+    private static final TypeReference<List<ItemEntity>> ITEM_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<ItemEntity> items;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        items = IntStream.range(0, size)
+                .mapToObj(i -> ItemEntity.builder()
+                        .id(UUID.randomUUID())
+                        .name("Smartphone " + i)
+                        .description("Black, 128GB, dual SIM")
+                        .price(BigDecimal.valueOf(49_999 + i, 2))
+                        .quantity(i)
+                        .category("Electronic")
+                        .version(0L)
+                        .build())
+                .toList();
+        json = objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public List<ItemEntity> read() throws IOException {
+        return objectMapper.readValue(json, ITEM_LIST);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.benchmarks;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.entities.ItemEntity;
+import com.example.app.repositories.ItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * One 10k-item list response, from the query to the body bytes: entities loaded into an open EntityManager (as
+ * a request does with open-in-view) and written as JSON, against {@link ItemResponse} projections written as
+ * JSON and as CBOR. The {@code encode*} benchmarks isolate the serialization. Body sizes are printed at setup;
+ * run with {@code -prof gc} for allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemResponseBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ItemRepository itemRepository;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+
+    private List<ItemEntity> entities;
+    private List<ItemResponse> responses;
+
+    @Setup
+    public void setup() throws IOException {
+        context = BenchmarkContext.start();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        jsonMapper = context.getBean(ObjectMapper.class);
+        cborMapper = context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+
+        itemRepository.saveAll(IntStream.range(0, ITEMS)
+                .mapToObj(i -> ItemEntity.builder()
+                        .name("Smartphone " + i)
+                        .description("Black, 128GB, dual SIM")
+                        .price(BigDecimal.valueOf(49_999 + i, 2))
+                        .quantity(i)
+                        .category("Electronic")
+                        .build())
+                .toList());
+
+        entities = loadEntities();
+        responses = itemRepository.findAllByOrderByIdAsc(Limit.of(ITEMS));
+        System.out.printf("%n%d-item body: entity JSON %d bytes, ItemResponse JSON %d bytes, ItemResponse CBOR %d bytes%n",
+                ITEMS, encodeEntitiesJson().length, encodeResponsesJson().length, encodeResponsesCbor().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] entitiesJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(loadEntities());
+    }
+
+    @Benchmark
+    public byte[] responsesJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(itemRepository.findAllByOrderByIdAsc(Limit.of(ITEMS)));
+    }
+
+    @Benchmark
+    public byte[] responsesCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(itemRepository.findAllByOrderByIdAsc(Limit.of(ITEMS)));
+    }
+
+    @Benchmark
+    public byte[] encodeEntitiesJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] encodeResponsesJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encodeResponsesCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(responses);
+    }
+
+    private List<ItemEntity> loadEntities() {
+        var entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select i from ItemEntity i order by i.id", ItemEntity.class)
+                    .setMaxResults(ITEMS)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
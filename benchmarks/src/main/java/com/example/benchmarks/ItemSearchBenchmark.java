@@ -0,0 +1,110 @@
+package com.example.benchmarks;
+
+import com.example.app.dto.ItemSearchCriteria;
+import com.example.app.dto.ItemSearchCriteria.ItemSortField;
+import com.example.app.dto.ItemSearchPage;
+import com.example.app.services.ItemSearchService;
+import com.example.app.services.ItemTextIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /api/v1/item/search} and the text index against an H2 table of {@code rows} items, through the
+ * real services in a non-web application context. Rows are generated in SQL (50 categories, prices
+ * 0.00-999.99, names "Item n") and the text index is rebuilt from them before measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ItemSearchBenchmark {
+
+    private static final String INSERT_ROWS = """
+            INSERT INTO item_entity (id, name, description, price, quantity, category, version)
+            SELECT RANDOM_UUID(),
+                   'Item ' || X,
+                   CASE MOD(X, 5)
+                       WHEN 0 THEN 'Blue desk lamp'
+                       WHEN 1 THEN 'Red office chair'
+                       WHEN 2 THEN 'Black smartphone case'
+                       WHEN 3 THEN 'Blue wireless mouse'
+                       ELSE 'White ceramic mug'
+                   END,
+                   CAST(MOD(X * 7919, 100000) AS NUMERIC(38, 2)) / 100,
+                   MOD(X, 100),
+                   'category-' || MOD(X, 50),
+                   0
+            FROM SYSTEM_RANGE(1, ?)
+            """;
+
+    @Param("1000000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ItemSearchService itemSearchService;
+    private ItemTextIndex itemTextIndex;
+    private String deepPriceCursor;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkContext.start("--item.search.text-index.enabled=true");
+        itemSearchService = context.getBean(ItemSearchService.class);
+        itemTextIndex = context.getBean(ItemTextIndex.class);
+
+        context.getBean(JdbcTemplate.class).update(INSERT_ROWS, rows);
+        itemTextIndex.rebuild();
+
+        deepPriceCursor = itemSearchService.search(criteria(null, BigDecimal.valueOf(500), null, null,
+                ItemSortField.PRICE, null)).nextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemSearchPage categoryAndPriceRangeByPrice() {
+        return itemSearchService.search(criteria("category-7", BigDecimal.valueOf(100), BigDecimal.valueOf(200), null,
+                ItemSortField.PRICE, null));
+    }
+
+    @Benchmark
+    public ItemSearchPage namePrefixByName() {
+        return itemSearchService.search(criteria(null, null, null, "Item 4242", ItemSortField.NAME, null));
+    }
+
+    @Benchmark
+    public ItemSearchPage firstPageById() {
+        return itemSearchService.search(criteria(null, null, null, null, ItemSortField.ID, null));
+    }
+
+    @Benchmark
+    public ItemSearchPage midTablePageByPrice() {
+        return itemSearchService.search(criteria(null, null, null, null, ItemSortField.PRICE, deepPriceCursor));
+    }
+
+    @Benchmark
+    public List<UUID> textIndexTwoWords() {
+        return itemTextIndex.search("blue lamp", 100);
+    }
+
+    @Benchmark
+    public List<UUID> textIndexSelectivePrefix() {
+        return itemTextIndex.search("item 42424", 100);
+    }
+
+    private static ItemSearchCriteria criteria(String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                               String namePrefix, ItemSortField sort, String cursor) {
+        return new ItemSearchCriteria(category, minPrice, maxPrice, namePrefix, sort, Sort.Direction.ASC, cursor, 100);
+    }
+}
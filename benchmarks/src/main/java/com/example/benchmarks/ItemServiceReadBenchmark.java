@@ -0,0 +1,87 @@
+package com.example.benchmarks;
+
+import com.example.app.dto.ItemPage;
+import com.example.app.dto.ItemResponse;
+import com.example.app.entities.ItemEntity;
+import com.example.app.repositories.ItemRepository;
+import com.example.app.services.ItemService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reads through the ItemService proxy, served by the Caffeine "item"/"itemPage" caches once warm, against
+ * the same reads straight from the repository on H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemServiceReadBenchmark {
+
+    private static final int ITEMS = 10_000;
+    private static final int HOT_ITEMS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private ItemRepository itemRepository;
+    private UUID[] hotIds;
+    private int next;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkContext.start();
+        itemService = context.getBean(ItemService.class);
+        itemRepository = context.getBean(ItemRepository.class);
+
+        var saved = itemRepository.saveAll(IntStream.range(0, ITEMS)
+                .mapToObj(i -> ItemEntity.builder()
+                        .name("Item " + i)
+                        .price(BigDecimal.valueOf(i, 2))
+                        .quantity(i)
+                        .category("category-" + i % 50)
+                        .build())
+                .toList());
+        hotIds = saved.stream().limit(HOT_ITEMS).map(ItemEntity::getId).toArray(UUID[]::new);
+        for (var id : hotIds)
+            itemService.getItemById(id);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemResponse getItemByIdCached() {
+        return itemService.getItemById(nextId());
+    }
+
+    @Benchmark
+    public ItemResponse getItemByIdUncached() {
+        return itemRepository.findResponseById(nextId()).orElseThrow();
+    }
+
+    @Benchmark
+    public ItemPage firstPageCached() {
+        return itemService.getAll(null, ItemService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemResponse> firstPageUncached() {
+        return itemRepository.findAllByOrderByIdAsc(Limit.of(ItemService.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    private UUID nextId() {
+        next = (next + 1) % HOT_ITEMS;
+        return hotIds[next];
+    }
+}
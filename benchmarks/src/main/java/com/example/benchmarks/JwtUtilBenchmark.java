@@ -0,0 +1,70 @@
+package com.example.benchmarks;
+
+import com.example.app.security.JwtUtil;
+import com.example.app.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and the per-request check done by JwtRequestFilter: {@code verify} of a token seen before
+ * (digest + cache hit) against the full HS256 parse every request paid without the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "aWqjCUl12Dis6tsFc0zB4AF2bphXOSrU3OVBIZbUcw5ZuidX2wAzBLc5g7iiHTcI";
+
+    private AnnotationConfigApplicationContext context;
+    private JwtUtil jwtUtil;
+    private Key signingKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("jwt", Map.of("jwt.secret", SECRET)));
+        context.register(JwtUtil.class);
+        context.refresh();
+
+        jwtUtil = context.getBean(JwtUtil.class);
+        signingKey = new SecretKeySpec(Base64.getDecoder().decode(SECRET), SignatureAlgorithm.HS256.getJcaName());
+        token = jwtUtil.generateToken("admin");
+        jwtUtil.verify(token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("admin");
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token).getBody();
+    }
+}
@@ -1,15 +1,77 @@
 package com.example.consumer;
 
+import com.example.consumer.view.ItemViewStore;
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch listener on item_challenge. Container concurrency matches the topic's partition count and records are
+ * keyed by item id, so every item's events are handled in order by a single thread. Offsets are committed
+ * once per processed batch.
+ * <p>
+ * Every event is applied to the {@link ItemViewStore}. The store's offsets are authoritative for where a
+ * partition is read from: on assignment the consumer seeks to them (or to the beginning when the view has never
+ * seen the partition), since the in-memory view has to be rebuilt regardless of the group's committed offsets.
+ */
 @Slf4j
 @Service
-public class KafkaConsumerService {
+public class KafkaConsumerService implements ConsumerSeekAware {
+
+    private final ItemViewStore itemViewStore;
+    private final Counter consumed;
+    private final Counter rejected;
+    private final Timer batchTimer;
+
+    public KafkaConsumerService(ItemViewStore itemViewStore, MeterRegistry meterRegistry) {
+        this.itemViewStore = itemViewStore;
+        this.consumed = Counter.builder("item.events.consumed")
+                .description("Item events processed")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("item.events.rejected")
+                .description("Records skipped because they could not be deserialized")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("item.events.batch")
+                .description("Time to process one polled batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition -> itemViewStore.nextOffset(partition).ifPresentOrElse(
+                offset -> callback.seek(partition.topic(), partition.partition(), offset),
+                () -> callback.seekToBeginning(partition.topic(), partition.partition())));
+    }
+
+    @KafkaListener(topics = "item_challenge", groupId = "${spring.kafka.consumer.group-id}")
+    public void listenBatch(List<ConsumerRecord<String, ItemChangeEvent>> records, Acknowledgment acknowledgment) {
+        batchTimer.record(() -> records.forEach(this::process));
+        acknowledgment.acknowledge();
+        log.debug("Processed batch of {} item events", records.size());
+    }
+
+    private void process(ConsumerRecord<String, ItemChangeEvent> record) {
+        itemViewStore.apply(record);
+
+        var event = record.value();
+        if (event == null) {
+            rejected.increment();
+            log.warn("Skipping undeserializable record at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            return;
+        }
 
-    @KafkaListener(topics = "item_challenge", groupId = "java_item")
-    public void listenGroup(String message) {
-        log.info("Received Message in group my-group: " + message);
+        consumed.increment();
+        log.debug("Received {} event for item {}", event.type(), event.itemId());
     }
 }
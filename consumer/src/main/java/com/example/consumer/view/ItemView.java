@@ -0,0 +1,25 @@
+package com.example.consumer.view;
+
+import com.example.events.ItemChangeEvent;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ItemView(UUID id,
+                       String name,
+                       String description,
+                       BigDecimal price,
+                       Integer quantity,
+                       String category,
+                       long updatedAt) {
+
+    public static ItemView from(ItemChangeEvent event) {
+        return new ItemView(event.itemId(), event.name(), event.description(), event.price(), event.quantity(),
+                event.category(), event.timestamp());
+    }
+
+    ItemChangeEvent toEvent() {
+        return new ItemChangeEvent(ItemChangeEvent.Type.UPDATED, id, updatedAt, name, description, price, quantity,
+                category);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.consumer.view;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/item")
+@RequiredArgsConstructor
+public class ItemViewController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ItemViewStore itemViewStore;
+
+    @GetMapping("/{uuid}")
+    public ResponseEntity<ItemView> getItemById(@PathVariable UUID uuid) {
+        return itemViewStore.get(uuid)
+                .map(item -> new ResponseEntity<>(item, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping
+    public ResponseEntity<ItemViewPage> getAll(@RequestParam(required = false) UUID cursor,
+                                               @RequestParam(defaultValue = "100") int limit) {
+        var pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return new ResponseEntity<>(itemViewStore.page(cursor, pageSize), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.consumer.view;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ItemViewPage(List<ItemView> items, UUID nextCursor) {
+}
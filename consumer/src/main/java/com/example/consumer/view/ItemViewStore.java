@@ -0,0 +1,174 @@
+package com.example.consumer.view;
+
+import com.example.events.ItemChangeEvent;
+import com.example.events.ItemChangeEventCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory view of item_challenge: the latest state of every item keyed by id, plus the next offset to read
+ * per partition. The view is snapshotted to disk periodically; on restart it is loaded back and consumption
+ * resumes from the snapshot offsets instead of replaying the whole topic.
+ * <p>
+ * Events carry full item state and deletes are idempotent, so re-applying events from an offset older than
+ * the items in a snapshot converges to the same view.
+ */
+@Slf4j
+@Component
+public class ItemViewStore {
+
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private final ConcurrentSkipListMap<UUID, ItemView> items = new ConcurrentSkipListMap<>();
+    private final Map<TopicPartition, Long> nextOffsets = new ConcurrentHashMap<>();
+    private final Path snapshotPath;
+    // not synchronized: the write would pin a virtual thread's carrier for its whole duration
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private volatile boolean dirty;
+
+    public ItemViewStore(@Value("${item.view.snapshot-path}") Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Applies the record's event, a record without a value (undeserializable) only advances the offset.
+     */
+    public void apply(ConsumerRecord<String, ItemChangeEvent> record) {
+        var event = record.value();
+        if (event != null && event.type() == ItemChangeEvent.Type.DELETED) {
+            items.remove(event.itemId());
+        } else if (event != null) {
+            items.put(event.itemId(), ItemView.from(event));
+        }
+        nextOffsets.put(new TopicPartition(record.topic(), record.partition()), record.offset() + 1);
+        dirty = true;
+    }
+
+    public Optional<Long> nextOffset(TopicPartition partition) {
+        return Optional.ofNullable(nextOffsets.get(partition));
+    }
+
+    public Optional<ItemView> get(UUID id) {
+        return Optional.ofNullable(items.get(id));
+    }
+
+    public ItemViewPage page(UUID cursor, int limit) {
+        var source = cursor == null ? items : items.tailMap(cursor, false);
+        var page = new ArrayList<ItemView>(Math.min(limit, source.size()));
+
+        for (var item : source.values()) {
+            if (page.size() == limit)
+                return new ItemViewPage(page, page.get(limit - 1).id());
+            page.add(item);
+        }
+        return new ItemViewPage(page, null);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    @PostConstruct
+    void load() {
+        if (!Files.exists(snapshotPath))
+            return;
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_FORMAT)
+                throw new IOException("Unsupported snapshot format");
+
+            for (int i = in.readInt(); i > 0; i--)
+                nextOffsets.put(new TopicPartition(in.readUTF(), in.readInt()), in.readLong());
+
+            for (int i = in.readInt(); i > 0; i--) {
+                var event = ItemChangeEventCodec.decode(in.readNBytes(in.readInt()));
+                items.put(event.itemId(), ItemView.from(event));
+            }
+            log.info("Loaded item view snapshot with {} items from {}", items.size(), snapshotPath);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable item view snapshot {}, replaying the topic", snapshotPath, e);
+            nextOffsets.clear();
+            items.clear();
+        }
+    }
+
+    /**
+     * Offsets are captured before items, so a snapshot never claims events that its items do not reflect.
+     */
+    @Scheduled(fixedDelayString = "${item.view.snapshot-interval}", initialDelayString = "${item.view.snapshot-interval}")
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            if (!dirty)
+                return;
+            dirty = false;
+
+            var offsets = Map.copyOf(nextOffsets);
+            var itemsToWrite = List.copyOf(items.values());
+            var tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+
+            try {
+                write(tmp, offsets, itemsToWrite);
+                Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                dirty = true;
+                throw e;
+            }
+            log.debug("Wrote item view snapshot with {} items", itemsToWrite.size());
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Listener containers are stopped before singletons are destroyed, so this last snapshot holds every applied
+     * event and a clean restart resumes exactly where consumption stopped.
+     */
+    @PreDestroy
+    void snapshotOnShutdown() {
+        // waits out a scheduled snapshot still writing, then writes whatever it missed
+        snapshotLock.lock();
+        try {
+            snapshot();
+        } catch (IOException e) {
+            log.warn("Could not write the final item view snapshot to {}", snapshotPath, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private static void write(Path file, Map<TopicPartition, Long> offsets, List<ItemView> itemsToWrite) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(SNAPSHOT_FORMAT);
+            out.writeInt(offsets.size());
+            for (var offset : offsets.entrySet()) {
+                out.writeUTF(offset.getKey().topic());
+                out.writeInt(offset.getKey().partition());
+                out.writeLong(offset.getValue());
+            }
+            out.writeInt(itemsToWrite.size());
+            for (var item : itemsToWrite) {
+                var bytes = ItemChangeEventCodec.encode(item.toEvent());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.consumer;
+
+import com.example.consumer.view.ItemView;
+import com.example.consumer.view.ItemViewStore;
+import com.example.events.ItemChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(kraft = true, partitions = 6, topics = "item_challenge")
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "item.view.snapshot-path=${java.io.tmpdir}/item-view-test/${random.uuid}/snapshot.bin"
+})
+class ConsumerApplicationTest {
+
+    @Autowired
+    private KafkaTemplate<String, ItemChangeEvent> kafkaTemplate;
+
+    @Autowired
+    private ItemViewStore itemViewStore;
+
+    @Test
+    void publishedEvents_reachTheItemView() throws Exception {
+        var id = UUID.randomUUID();
+        var created = new ItemChangeEvent(ItemChangeEvent.Type.CREATED, id, System.currentTimeMillis(), "Phone",
+                "Smartphone", BigDecimal.valueOf(12.33), 2, "Electronic");
+
+        kafkaTemplate.send("item_challenge", id.toString(), created).get();
+
+        assertThat(await(id))
+                .hasValueSatisfying(item -> assertThat(item.name()).isEqualTo("Phone"));
+    }
+
+    private Optional<ItemView> await(UUID id) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (itemViewStore.get(id).isEmpty() && System.nanoTime() < deadline)
+            Thread.sleep(100);
+        return itemViewStore.get(id);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.consumer;
+
+import com.example.consumer.view.ItemViewStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+public class KafkaConsumerServiceTest {
+
+    private final ItemViewStore itemViewStore = mock(ItemViewStore.class);
+    private final ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+    private final KafkaConsumerService consumerService = new KafkaConsumerService(itemViewStore, new SimpleMeterRegistry());
+
+    @Test
+    void onPartitionsAssigned_seeksToTheViewOffsets_orToTheBeginning() {
+        var known = new TopicPartition("item_challenge", 0);
+        var unknown = new TopicPartition("item_challenge", 1);
+        when(itemViewStore.nextOffset(known)).thenReturn(Optional.of(42L));
+        when(itemViewStore.nextOffset(unknown)).thenReturn(Optional.empty());
+
+        consumerService.onPartitionsAssigned(Map.of(known, 100L, unknown, 7L), callback);
+
+        verify(callback).seek("item_challenge", 0, 42L);
+        verify(callback).seekToBeginning("item_challenge", 1);
+        verifyNoMoreInteractions(callback);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.consumer.view;
+
+import com.example.events.ItemChangeEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ItemViewStoreTest {
+
+    private static final String TOPIC = "item_challenge";
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID THIRD = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @TempDir
+    Path directory;
+
+    private Path snapshotPath;
+    private ItemViewStore store;
+
+    @BeforeEach
+    void setup() {
+        snapshotPath = directory.resolve("view/snapshot.bin");
+        store = new ItemViewStore(snapshotPath);
+    }
+
+    @Test
+    void apply_keepsTheLatestStateAndRemovesDeletedItems() {
+        store.apply(record(0, 0, changed(ItemChangeEvent.Type.CREATED, FIRST, "Phone", 5)));
+        store.apply(record(0, 1, changed(ItemChangeEvent.Type.CREATED, SECOND, "Case", 10)));
+        store.apply(record(0, 2, changed(ItemChangeEvent.Type.UPDATED, FIRST, "Phone", 4)));
+        store.apply(record(0, 3, ItemChangeEvent.deleted(SECOND)));
+
+        assertThat(store.get(FIRST))
+                .hasValueSatisfying(item -> assertThat(item.quantity()).isEqualTo(4));
+
+        assertThat(store.get(SECOND))
+                .isEmpty();
+
+        assertThat(store.size())
+                .isEqualTo(1);
+
+        assertThat(store.nextOffset(new TopicPartition(TOPIC, 0)))
+                .contains(4L);
+    }
+
+    @Test
+    void apply_undeserializableRecord_onlyAdvancesTheOffset() {
+        store.apply(record(2, 41, null));
+
+        assertThat(store.size())
+                .isZero();
+
+        assertThat(store.nextOffset(new TopicPartition(TOPIC, 2)))
+                .contains(42L);
+
+        assertThat(store.nextOffset(new TopicPartition(TOPIC, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    void page_walksItemsInIdOrderWithACursor() {
+        store.apply(record(0, 0, changed(ItemChangeEvent.Type.CREATED, THIRD, "C", 1)));
+        store.apply(record(1, 0, changed(ItemChangeEvent.Type.CREATED, FIRST, "A", 1)));
+        store.apply(record(2, 0, changed(ItemChangeEvent.Type.CREATED, SECOND, "B", 1)));
+
+        var first = store.page(null, 2);
+
+        assertThat(first.items())
+                .extracting(ItemView::id)
+                .containsExactly(FIRST, SECOND);
+
+        assertThat(first.nextCursor())
+                .isEqualTo(SECOND);
+
+        var last = store.page(first.nextCursor(), 2);
+
+        assertThat(last.items())
+                .extracting(ItemView::id)
+                .containsExactly(THIRD);
+
+        assertThat(last.nextCursor())
+                .isNull();
+
+        assertThat(store.page(null, 3).nextCursor())
+                .isNull();
+    }
+
+    @Test
+    void snapshot_isLoadedBackWithItemsAndOffsets() throws IOException {
+        store.apply(record(0, 7, changed(ItemChangeEvent.Type.CREATED, FIRST, "Phone", 5)));
+        store.apply(record(3, 2, changed(ItemChangeEvent.Type.CREATED, SECOND, "Case", 10)));
+        store.snapshot();
+
+        var restored = new ItemViewStore(snapshotPath);
+        restored.load();
+
+        assertThat(restored.size())
+                .isEqualTo(2);
+
+        assertThat(restored.get(FIRST))
+                .isEqualTo(store.get(FIRST));
+
+        assertThat(restored.get(SECOND))
+                .isEqualTo(store.get(SECOND));
+
+        assertThat(restored.nextOffset(new TopicPartition(TOPIC, 0)))
+                .contains(8L);
+
+        assertThat(restored.nextOffset(new TopicPartition(TOPIC, 3)))
+                .contains(3L);
+    }
+
+    @Test
+    void snapshot_unchangedView_writesNothing() throws IOException {
+        store.snapshot();
+
+        assertThat(snapshotPath)
+                .doesNotExist();
+    }
+
+    @Test
+    void snapshotOnShutdown_writesTheLatestEvents() throws IOException {
+        store.apply(record(0, 0, changed(ItemChangeEvent.Type.CREATED, FIRST, "Phone", 5)));
+        store.snapshot();
+        store.apply(record(0, 1, changed(ItemChangeEvent.Type.UPDATED, FIRST, "Phone", 3)));
+
+        store.snapshotOnShutdown();
+
+        var restored = new ItemViewStore(snapshotPath);
+        restored.load();
+
+        assertThat(restored.get(FIRST))
+                .hasValueSatisfying(item -> assertThat(item.quantity()).isEqualTo(3));
+
+        assertThat(restored.nextOffset(new TopicPartition(TOPIC, 0)))
+                .contains(2L);
+    }
+
+    @Test
+    void load_unreadableSnapshot_startsEmpty() throws IOException {
+        Files.createDirectories(snapshotPath.getParent());
+        Files.write(snapshotPath, new byte[]{0, 0, 0, 1, 0, 0});
+
+        store.load();
+
+        assertThat(store.size())
+                .isZero();
+
+        assertThat(store.nextOffset(new TopicPartition(TOPIC, 0)))
+                .isEmpty();
+    }
+
+    private static ConsumerRecord<String, ItemChangeEvent> record(int partition, long offset, ItemChangeEvent event) {
+        var key = event == null ? null : event.itemId().toString();
+        return new ConsumerRecord<>(TOPIC, partition, offset, key, event);
+    }
+
+    private static ItemChangeEvent changed(ItemChangeEvent.Type type, UUID id, String name, int quantity) {
+        return new ItemChangeEvent(type, id, 1_700_000_000_000L, name, name + " description",
+                BigDecimal.valueOf(9.99), quantity, "Electronic");
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.events;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Item change published on {@code item_challenge}, keyed by item id. DELETED events carry only the id and
+ * timestamp; CREATED/UPDATED events carry the full item state after the change.
+ */
+public record ItemChangeEvent(Type type,
+                              UUID itemId,
+                              long timestamp,
+                              String name,
+                              String description,
+                              BigDecimal price,
+                              Integer quantity,
+                              String category) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ItemChangeEvent deleted(UUID itemId) {
+        return new ItemChangeEvent(Type.DELETED, itemId, System.currentTimeMillis(), null, null, null, null, null);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.events;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Binary encoding of {@link ItemChangeEvent}, version 1:
+ * <pre>
+ * version:u8 type:u8 id:16 bytes timestamp:i64
+ * -- CREATED/UPDATED only --
+ * flags:u8 (1 = description, 2 = category, 4 = quantity)
+ * name:str [description:str] price:(scale:varint, unscaled:bytes) [quantity:varint] [category:str]
+ * </pre>
+ * Strings and byte arrays are length-prefixed with an unsigned varint, signed ints are zig-zag varints.
+ */
+public final class ItemChangeEventCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte[] TYPE_CODES = {1, 2, 3};
+    private static final int HAS_DESCRIPTION = 1;
+    private static final int HAS_CATEGORY = 2;
+    private static final int HAS_QUANTITY = 4;
+
+    private ItemChangeEventCodec() {
+    }
+
+    public static byte[] encode(ItemChangeEvent event) {
+        var out = new Output(event.type() == ItemChangeEvent.Type.DELETED ? 26 : 96);
+        out.writeByte(VERSION);
+        out.writeByte(TYPE_CODES[event.type().ordinal()]);
+        out.writeLong(event.itemId().getMostSignificantBits());
+        out.writeLong(event.itemId().getLeastSignificantBits());
+        out.writeLong(event.timestamp());
+
+        if (event.type() == ItemChangeEvent.Type.DELETED)
+            return out.toByteArray();
+
+        int flags = (event.description() != null ? HAS_DESCRIPTION : 0)
+                | (event.category() != null ? HAS_CATEGORY : 0)
+                | (event.quantity() != null ? HAS_QUANTITY : 0);
+        out.writeByte(flags);
+        out.writeString(event.name());
+        if (event.description() != null)
+            out.writeString(event.description());
+        out.writeVarInt(zigZag(event.price().scale()));
+        out.writeBytes(event.price().unscaledValue().toByteArray());
+        if (event.quantity() != null)
+            out.writeVarInt(zigZag(event.quantity()));
+        if (event.category() != null)
+            out.writeString(event.category());
+
+        return out.toByteArray();
+    }
+
+    public static ItemChangeEvent decode(byte[] data) {
+        var in = new Input(data);
+        var version = in.readByte();
+        if (version != VERSION)
+            throw new SerializationException("Unsupported item event version " + version);
+
+        var type = typeOf(in.readByte());
+        var itemId = new UUID(in.readLong(), in.readLong());
+        var timestamp = in.readLong();
+
+        if (type == ItemChangeEvent.Type.DELETED)
+            return new ItemChangeEvent(type, itemId, timestamp, null, null, null, null, null);
+
+        int flags = in.readByte();
+        var name = in.readString();
+        var description = (flags & HAS_DESCRIPTION) != 0 ? in.readString() : null;
+        var scale = unZigZag(in.readVarInt());
+        var price = new BigDecimal(new BigInteger(in.readBytes()), scale);
+        var quantity = (flags & HAS_QUANTITY) != 0 ? unZigZag(in.readVarInt()) : null;
+        var category = (flags & HAS_CATEGORY) != 0 ? in.readString() : null;
+
+        return new ItemChangeEvent(type, itemId, timestamp, name, description, price, quantity, category);
+    }
+
+    private static ItemChangeEvent.Type typeOf(byte code) {
+        for (int i = 0; i < TYPE_CODES.length; i++) {
+            if (TYPE_CODES[i] == code)
+                return ItemChangeEvent.Type.values()[i];
+        }
+        throw new SerializationException("Unknown item event type " + code);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8)
+                buffer[position++] = (byte) (value >>> shift);
+        }
+
+        void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            require(1);
+            return buffer[position++];
+        }
+
+        long readLong() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++)
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            return value;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                var b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new SerializationException("Malformed varint in item event");
+        }
+
+        byte[] readBytes() {
+            var length = readVarInt();
+            require(length);
+            var bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            var length = readVarInt();
+            require(length);
+            var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (bytes < 0 || position + bytes > buffer.length)
+                throw new SerializationException("Truncated item event");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.events;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class ItemChangeEventDeserializer implements Deserializer<ItemChangeEvent> {
+
+    @Override
+    public ItemChangeEvent deserialize(String topic, byte[] data) {
+        return data == null ? null : ItemChangeEventCodec.decode(data);
+    }
+}
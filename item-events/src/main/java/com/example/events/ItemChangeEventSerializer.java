@@ -0,0 +1,11 @@
+package com.example.events;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class ItemChangeEventSerializer implements Serializer<ItemChangeEvent> {
+
+    @Override
+    public byte[] serialize(String topic, ItemChangeEvent event) {
+        return event == null ? null : ItemChangeEventCodec.encode(event);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.events;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ItemChangeEventCodecTest {
+
+    private static final UUID ID = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+    @Test
+    void encode_createdEvent_roundTrips() {
+        var event = new ItemChangeEvent(ItemChangeEvent.Type.CREATED, ID, 1727104777000L,
+                "Smartphone xyz", "Smartphone", new BigDecimal("12.33"), 2, "Electronic");
+
+        assertThat(ItemChangeEventCodec.decode(ItemChangeEventCodec.encode(event)))
+                .isEqualTo(event);
+    }
+
+    @Test
+    void encode_optionalFieldsMissing_roundTrips() {
+        var event = new ItemChangeEvent(ItemChangeEvent.Type.UPDATED, ID, 1727104777000L,
+                "Smartphone ção", null, new BigDecimal("-1234567890123456789012.5"), null, null);
+
+        assertThat(ItemChangeEventCodec.decode(ItemChangeEventCodec.encode(event)))
+                .isEqualTo(event);
+    }
+
+    @Test
+    void encode_deletedEvent_onlyCarriesIdAndTimestamp() {
+        var event = ItemChangeEvent.deleted(ID);
+        var bytes = ItemChangeEventCodec.encode(event);
+
+        assertThat(bytes)
+                .hasSize(26);
+
+        assertThat(ItemChangeEventCodec.decode(bytes))
+                .isEqualTo(event);
+    }
+
+    @Test
+    void encode_createdEvent_isSmallerThanStringPayload() {
+        var event = new ItemChangeEvent(ItemChangeEvent.Type.CREATED, ID, 1727104777000L,
+                "Smartphone xyz", "Smartphone", new BigDecimal("12.33"), 2, "Electronic");
+        var stringPayload = "ItemEntity(id=" + ID + ", name=Smartphone xyz, description=Smartphone, price=12.33, "
+                + "quantity=2, category=Electronic)";
+
+        assertThat(ItemChangeEventCodec.encode(event).length)
+                .isLessThan(stringPayload.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    void decode_truncatedOrUnknownVersion_throwError() {
+        var bytes = ItemChangeEventCodec.encode(ItemChangeEvent.deleted(ID));
+
+        assertThrows(SerializationException.class, () -> ItemChangeEventCodec.decode(Arrays.copyOf(bytes, 10)));
+
+        bytes[0] = 9;
+        assertThrows(SerializationException.class, () -> ItemChangeEventCodec.decode(bytes));
+    }
+}
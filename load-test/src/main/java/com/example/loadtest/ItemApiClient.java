@@ -0,0 +1,151 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Issues one {@link Operation} at a time against {@code /api/v1/item} with a single JWT. get and update pick
+ * from the items created by {@link #seed(int)}, which are never deleted; delete takes items created during
+ * the run and falls back to a save when there is none left.
+ */
+public class ItemApiClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final int batchSize;
+    private final ConcurrentLinkedQueue<UUID> deletable = new ConcurrentLinkedQueue<>();
+    private AtomicReferenceArray<UUID> seeded;
+    private String token;
+
+    public ItemApiClient(URI baseUri, int batchSize) {
+        this.baseUri = baseUri;
+        this.batchSize = batchSize;
+    }
+
+    public void authenticate(String username, String password) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(baseUri.resolve("/api/authenticate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.createObjectNode().put("username", username).put("password", password).toString()))
+                .build();
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Authentication failed with " + response.statusCode());
+        token = response.body();
+    }
+
+    public void seed(int items) throws IOException, InterruptedException {
+        var response = httpClient.send(post("/api/v1/item/saveAll", newItems(items)), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201)
+            throw new IllegalStateException("Seeding failed with " + response.statusCode());
+
+        var ids = ids(objectMapper.readTree(response.body()));
+        seeded = new AtomicReferenceArray<>(ids.toArray(UUID[]::new));
+    }
+
+    public boolean hasDeletable() {
+        return !deletable.isEmpty();
+    }
+
+    /**
+     * Completes with the HTTP status, or exceptionally when no response was received.
+     */
+    public CompletableFuture<Integer> send(Operation operation) {
+        return switch (operation) {
+            case GET -> status(get("/api/v1/item/" + randomSeeded()));
+            case LIST -> status(get("/api/v1/item?limit=100"));
+            case SAVE -> created(post("/api/v1/item", newItem()));
+            case SAVE_ALL -> created(post("/api/v1/item/saveAll", newItems(batchSize)));
+            case UPDATE -> status(put("/api/v1/item/" + randomSeeded(),
+                    objectMapper.createObjectNode().put("quantity", ThreadLocalRandom.current().nextInt(1000)).toString()));
+            case DELETE -> {
+                var id = deletable.poll();
+                yield id == null ? send(Operation.SAVE) : status(delete("/api/v1/item/" + id));
+            }
+        };
+    }
+
+    private CompletableFuture<Integer> status(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private CompletableFuture<Integer> created(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() == 201) {
+                try {
+                    deletable.addAll(ids(objectMapper.readTree(response.body())));
+                } catch (IOException e) {
+                    return -1;
+                }
+            }
+            return response.statusCode();
+        });
+    }
+
+    private UUID randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.length()));
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return authorized(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return authorized(path).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest delete(String path) {
+        return authorized(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private String newItem() {
+        var random = ThreadLocalRandom.current();
+        return objectMapper.createObjectNode()
+                .put("name", "Load test item " + random.nextInt(1_000_000))
+                .put("description", "Created by the load test")
+                .put("price", random.nextInt(1, 100_000) / 100.0)
+                .put("quantity", random.nextInt(1000))
+                .put("category", "category-" + random.nextInt(50))
+                .toString();
+    }
+
+    private String newItems(int count) {
+        var items = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++)
+            items.add(newItem());
+        return "[" + String.join(",", items) + "]";
+    }
+
+    private static List<UUID> ids(JsonNode body) {
+        if (!body.isArray())
+            return List.of(UUID.fromString(body.get("id").asText()));
+
+        var ids = new ArrayList<UUID>(body.size());
+        body.forEach(item -> ids.add(UUID.fromString(item.get("id").asText())));
+        return ids;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.loadtest;
+
+import com.example.app.MainApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * Open-loop HTTP load against a local main-app: an embedded single-node KRaft Kafka broker stands in for the
+ * docker-compose one and the app keeps its in-memory H2, so it runs offline.
+ * <p>
+ * Requests are started on a fixed schedule of {@code rps} per second, independent of how fast responses come
+ * back, and each latency is measured from the request's scheduled start. A slow server therefore shows up as
+ * latency instead of silently lowering the offered load (coordinated omission). After the run the number of
+ * records on {@code item_challenge} is compared with the successful writes.
+ */
+public class LoadTest {
+
+    private static final String TOPIC = "item_challenge";
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadTestOptions options;
+    private final ItemApiClient client;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder writes = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final Operation[] schedule;
+
+    LoadTest(LoadTestOptions options, ItemApiClient client) {
+        this.options = options;
+        this.client = client;
+        for (var operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        schedule = options.mix().entrySet().stream()
+                .flatMap(entry -> IntStream.range(0, entry.getValue()).mapToObj(i -> entry.getKey()))
+                .toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.parse(args);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        var broker = new EmbeddedKafkaKraftBroker(1, options.partitions(), TOPIC);
+        broker.afterPropertiesSet();
+        var context = SpringApplication.run(MainApplication.class,
+                "--server.port=0",
+                "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "--item.events.partitions=" + options.partitions(),
+                "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN");
+        try {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var client = new ItemApiClient(URI.create("http://localhost:" + port), options.batchSize());
+            client.authenticate("admin", "admin");
+            client.seed(options.seedItems());
+
+            var loadTest = new LoadTest(options, client);
+            loadTest.run();
+            loadTest.report(System.out);
+            loadTest.checkEvents(broker.getBrokersAsString(), options.seedItems(), System.out);
+        } finally {
+            context.close();
+            broker.destroy();
+        }
+    }
+
+    void run() throws InterruptedException {
+        var period = TimeUnit.SECONDS.toNanos(1) / options.rps();
+        var start = System.nanoTime();
+        var measuredFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        var end = measuredFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        for (long i = 0; ; i++) {
+            var scheduled = start + i * period;
+            if (scheduled >= end)
+                break;
+            var wait = scheduled - System.nanoTime();
+            if (wait > 0)
+                LockSupport.parkNanos(wait);
+
+            var operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            if (operation == Operation.DELETE && !client.hasDeletable())
+                operation = Operation.SAVE;
+            var measured = scheduled >= measuredFrom;
+            var recorded = operation;
+
+            inFlight.incrementAndGet();
+            client.send(operation).whenComplete((status, failure) -> {
+                var latency = System.nanoTime() - scheduled;
+                var ok = failure == null && status >= 200 && status < 300;
+                if (ok && recorded != Operation.GET && recorded != Operation.LIST)
+                    writes.add(recorded == Operation.SAVE_ALL ? options.batchSize() : 1);
+                if (measured) {
+                    latencies.get(recorded).recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+                    if (!ok)
+                        errors.get(recorded).increment();
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+
+        var deadline = System.nanoTime() + MAX_LATENCY_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+    }
+
+    void report(PrintStream out) throws IOException {
+        out.printf("%nTarget %d rps, %d s measured after %d s warm-up, %s threads%n%n",
+                options.rps(), options.durationSeconds(), options.warmupSeconds(),
+                options.virtualThreads() ? "virtual" : "platform");
+        out.printf("%-8s %9s %8s %9s %10s %10s %10s %10s%n",
+                "op", "requests", "errors", "rps", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        var total = new Histogram(MAX_LATENCY_NANOS, 3);
+        long totalErrors = 0;
+        for (var operation : Operation.values()) {
+            var histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0)
+                continue;
+            total.add(histogram);
+            totalErrors += errors.get(operation).sum();
+            printRow(out, operation.parameter(), histogram, errors.get(operation).sum());
+
+            if (options.histogramDirectory() != null) {
+                Files.createDirectories(options.histogramDirectory());
+                try (var file = new PrintStream(options.histogramDirectory().resolve(operation.parameter() + ".hgrm").toFile())) {
+                    histogram.outputPercentileDistribution(file, 1_000_000.0);
+                }
+            }
+        }
+        printRow(out, "all", total, totalErrors);
+    }
+
+    /**
+     * Every successful write publishes one event after commit; waits up to 30 s for them to reach the topic.
+     */
+    void checkEvents(String bootstrapServers, long seeded, PrintStream out) throws InterruptedException {
+        var expected = seeded + writes.sum();
+        var config = Map.<String, Object>of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        try (var consumer = new KafkaConsumer<byte[], byte[]>(config)) {
+            var partitions = IntStream.range(0, options.partitions()).mapToObj(p -> new TopicPartition(TOPIC, p)).toList();
+            long published = 0;
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (System.nanoTime() < deadline) {
+                published = consumer.endOffsets(partitions).values().stream().mapToLong(Long::longValue).sum();
+                if (published >= expected)
+                    break;
+                Thread.sleep(200);
+            }
+            out.printf("%nKafka: %d events on %s for %d successful writes%n", published, TOPIC, expected);
+        }
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount) {
+        var seconds = (double) options.durationSeconds();
+        out.printf("%-8s %9d %8d %9.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errorCount,
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
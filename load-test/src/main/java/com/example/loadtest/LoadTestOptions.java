@@ -0,0 +1,65 @@
+package com.example.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadTest}, {@code name=value} pairs (a leading {@code --} is allowed):
+ * <ul>
+ *     <li>{@code rps} requests started per second, whatever the response times (default 200)</li>
+ *     <li>{@code duration}, {@code warmup} measured and discarded seconds (30, 10)</li>
+ *     <li>{@code mix} relative weights, e.g. {@code get=50,list=20,save=10,saveAll=5,update=10,delete=5}</li>
+ *     <li>{@code seed} items created before the run for get/update (1000), {@code batch} items per saveAll (10)</li>
+ *     <li>{@code partitions} of the embedded item_challenge topic (6)</li>
+ *     <li>{@code virtual} run main-app with {@code spring.threads.virtual.enabled} (false)</li>
+ *     <li>{@code hgrm} directory to write one HdrHistogram percentile file per operation to (none)</li>
+ * </ul>
+ */
+public record LoadTestOptions(int rps,
+                              int durationSeconds,
+                              int warmupSeconds,
+                              Map<Operation, Integer> mix,
+                              int seedItems,
+                              int batchSize,
+                              int partitions,
+                              boolean virtualThreads,
+                              Path histogramDirectory) {
+
+    private static final String DEFAULT_MIX = "get=50,list=20,save=10,saveAll=5,update=10,delete=5";
+
+    public static LoadTestOptions parse(String... args) {
+        var values = new HashMap<String, String>();
+        for (var arg : args) {
+            var pair = arg.startsWith("--") ? arg.substring(2) : arg;
+            var separator = pair.indexOf('=');
+            if (separator <= 0)
+                throw new IllegalArgumentException("Expected name=value but got " + arg);
+            values.put(pair.substring(0, separator), pair.substring(separator + 1));
+        }
+
+        var hgrm = values.get("hgrm");
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rps", "200")),
+                Integer.parseInt(values.getOrDefault("duration", "30")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("seed", "1000")),
+                Integer.parseInt(values.getOrDefault("batch", "10")),
+                Integer.parseInt(values.getOrDefault("partitions", "6")),
+                Boolean.parseBoolean(values.getOrDefault("virtual", "false")),
+                hgrm == null ? null : Path.of(hgrm));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (var entry : mix.split(",")) {
+            var parts = entry.split("=");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Expected operation=weight but got " + entry);
+            weights.put(Operation.fromParameter(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.loadtest;
+
+public enum Operation {
+    GET("get"),
+    LIST("list"),
+    SAVE("save"),
+    SAVE_ALL("saveAll"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String parameter;
+
+    Operation(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public static Operation fromParameter(String value) {
+        for (var operation : values())
+            if (operation.parameter.equalsIgnoreCase(value))
+                return operation;
+        throw new IllegalArgumentException("Unknown operation " + value);
+    }
+}
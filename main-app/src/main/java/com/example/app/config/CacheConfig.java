@@ -0,0 +1,40 @@
+package com.example.app.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    /**
+     * Only the caches declared under {@code caches.specs} exist, each bounded by its own spec and recording
+     * stats, so an unknown cache name fails fast instead of silently creating an unbounded map. A spec with
+     * {@code maximumWeight} bounds the cache by the {@link Weighted#weight()} of its values instead of their count.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Set.of());
+        cacheManager.setAllowNullValues(false);
+
+        cacheSpecProperties.specs().forEach((name, spec) -> {
+            var caffeine = Caffeine.from(spec).recordStats();
+            if (spec.contains("maximumWeight"))
+                caffeine.weigher(CacheConfig::weigh);
+            cacheManager.registerCustomCache(name, caffeine.build());
+        });
+
+        return cacheManager;
+    }
+
+    private static int weigh(Object key, Object value) {
+        return value instanceof Weighted weighted ? weighted.weight() : 1;
+    }
+}
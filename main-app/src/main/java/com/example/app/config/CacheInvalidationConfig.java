@@ -0,0 +1,58 @@
+package com.example.app.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+/**
+ * Kafka plumbing for cross-replica "item" cache invalidation, only when {@code item.cache.invalidation.enabled}.
+ * Invalidations are small byte payloads with their own listener factory, independent of the item event
+ * deserializers configured under {@code spring.kafka}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "item.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+    /**
+     * Invalidations only matter to replicas that are running, so the topic keeps them for an hour. It has a
+     * single partition, which {@code ItemCacheInvalidation} assigns itself.
+     */
+    @Bean
+    public NewTopic itemInvalidationTopic(@Value("${item.cache.invalidation.topic}") String topic) {
+        return TopicBuilder.name(topic)
+                .partitions(1)
+                .replicas(1)
+                .config(TopicConfig.RETENTION_MS_CONFIG, "3600000")
+                .build();
+    }
+
+    /**
+     * Batch listener for a broadcast: every replica must see every invalidation, so there is no consumer group.
+     * Partitions are assigned manually, read from the end of the topic (a replica that just started has an empty
+     * cache and nothing to invalidate) and no offsets are committed, which leaves nothing behind on the broker
+     * when a replica stops.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> invalidationListenerContainerFactory(
+            KafkaProperties kafkaProperties) {
+        var props = kafkaProperties.buildConsumerProperties(null);
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer()));
+        factory.setBatchListener(true);
+        return factory;
+    }
+}
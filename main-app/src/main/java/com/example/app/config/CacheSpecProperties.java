@@ -0,0 +1,12 @@
+package com.example.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Caffeine specs per cache name, e.g. {@code caches.specs.item: maximumSize=10000,expireAfterWrite=10m}.
+ */
+@ConfigurationProperties(prefix = "caches")
+public record CacheSpecProperties(Map<String, String> specs) {
+}
@@ -0,0 +1,21 @@
+package com.example.app.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Serves {@code application/cbor} to clients that ask for it with {@code Accept}, JSON staying the default.
+     * Built from Boot's builder so both formats share the {@code spring.jackson.*} settings; it takes the place
+     * of the default CBOR converter, after the JSON one.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
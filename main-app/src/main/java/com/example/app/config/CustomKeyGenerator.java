@@ -1,21 +1,74 @@
 package com.example.app.config;
 
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Builds cache keys from the method name and its arguments without rendering anything to a String:
+ * no-arg methods reuse one key per method, single-arg methods (e.g. {@code getItemById(UUID)}) get a
+ * small {@link CacheKey} holding the argument itself, and multi-arg methods get a {@link CacheKey} holding
+ * a {@link SimpleKey} of the arguments.
+ */
 @Component
 public class CustomKeyGenerator implements KeyGenerator {
 
+    private final Map<Method, CacheKey> noArgKeys = new ConcurrentHashMap<>();
+
     @Override
     public Object generate(Object target, Method method, Object... params) {
-        return Arrays.stream(params)
-                .filter(obj -> obj instanceof UUID)
-                .map(obj -> method.getName() + obj.toString())
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No UUID parameter found"));
+        return switch (params.length) {
+            case 0 -> noArgKeys.computeIfAbsent(method, m -> new CacheKey(m.getName(), SimpleKey.EMPTY));
+            case 1 -> new CacheKey(method.getName(), params[0]);
+            default -> new CacheKey(method.getName(), new SimpleKey(params));
+        };
+    }
+
+    /**
+     * Key for {@code method(param)}, for use in {@code @CachePut}/{@code @CacheEvict} expressions that
+     * must hit the entry written by a {@code @Cacheable} method using this generator.
+     */
+    public static CacheKey key(String method, Object param) {
+        return new CacheKey(method, param);
+    }
+
+    /**
+     * Method name and argument with the hash computed once; only built through {@link #key(String, Object)} and
+     * the generator, so the hash always matches the fields.
+     */
+    public static final class CacheKey {
+
+        private final String method;
+        private final Object param;
+        private final int hash;
+
+        private CacheKey(String method, Object param) {
+            this.method = method;
+            this.param = param;
+            this.hash = 31 * method.hashCode() + Objects.hashCode(param);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || other instanceof CacheKey key
+                    && hash == key.hash
+                    && method.equals(key.method)
+                    && Objects.equals(param, key.param);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return method + "(" + param + ")";
+        }
     }
 }
@@ -0,0 +1,23 @@
+package com.example.app.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * Item events are keyed by item id, so the partition count bounds consumer parallelism while keeping
+     * each item's events ordered. Consumers should run with a matching container concurrency.
+     */
+    @Bean
+    public NewTopic itemChallengeTopic(@Value("${item.events.partitions}") int partitions) {
+        return TopicBuilder.name("item_challenge")
+                .partitions(partitions)
+                .replicas(1)
+                .build();
+    }
+}
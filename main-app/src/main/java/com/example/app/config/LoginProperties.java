@@ -0,0 +1,26 @@
+package com.example.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits for {@code /api/authenticate}, e.g. {@code auth.login.max-attempts-per-user: 10}.
+ *
+ * @param verifyThreads      threads running bcrypt checks, 0 for half the available processors
+ * @param queueCapacity      checks waiting for a thread; further logins are refused with 503
+ * @param maxAttemptsPerUser password checks allowed per username within {@code attemptWindow}
+ * @param maxAttemptsPerIp   password checks allowed per client address within {@code attemptWindow}
+ * @param attemptWindow      length of the fixed window the attempt limits count over
+ */
+@ConfigurationProperties(prefix = "auth.login")
+public record LoginProperties(int verifyThreads,
+                              int queueCapacity,
+                              int maxAttemptsPerUser,
+                              int maxAttemptsPerIp,
+                              Duration attemptWindow) {
+
+    public int effectiveVerifyThreads() {
+        return verifyThreads > 0 ? verifyThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.app.config;
+
+/**
+ * A cache value with a weight of its own, counted against a {@code maximumWeight} spec in caches.specs.
+ * Values that are not {@code Weighted} weigh 1.
+ */
+public interface Weighted {
+
+    int weight();
+}
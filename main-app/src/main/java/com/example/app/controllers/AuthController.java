@@ -1,41 +1,31 @@
 package com.example.app.controllers;
 
 import com.example.app.dto.AuthRequest;
-import com.example.app.security.JwtUtil;
-import com.example.app.services.UserDetailService;
+import com.example.app.services.LoginService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/authenticate")
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailService userDetailService;
-    private final JwtUtil jwtUtil;
+    private final LoginService loginService;
 
+    /**
+     * Completes asynchronously: the request thread is released while the password is checked on the login pool.
+     */
     @PostMapping
-    public ResponseEntity<String> createAuthenticationToken(@RequestBody AuthRequest authRequest) throws Exception {
-        try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(authRequest.username(), authRequest.password())
-            );
-        } catch (AuthenticationException e) {
-            return new ResponseEntity<>("Incorrect username or password", HttpStatus.UNAUTHORIZED);
-        }
-
-       var userDetails = userDetailService.loadUserByUsername(authRequest.username());
-        final String jwt = jwtUtil.generateToken(userDetails.getUsername());
-
-        return new ResponseEntity<>(jwt, HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<String>> createAuthenticationToken(@RequestBody AuthRequest authRequest,
+                                                                               HttpServletRequest request) {
+        return loginService.login(authRequest.username(), authRequest.password(), request.getRemoteAddr())
+                .thenApply(ResponseEntity::ok);
     }
 }
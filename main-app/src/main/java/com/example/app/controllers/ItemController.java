@@ -1,14 +1,45 @@
 package com.example.app.controllers;
 
+import com.example.app.dto.BulkIngestResult;
+import com.example.app.dto.ItemLookupResult;
+import com.example.app.dto.ItemPage;
+import com.example.app.dto.ItemResponse;
+import com.example.app.dto.ItemSearchCriteria;
+import com.example.app.dto.ItemSearchCriteria.ItemSortField;
+import com.example.app.dto.ItemSearchPage;
 import com.example.app.dto.ItemUpdateDto;
+import com.example.app.dto.StockAdjustmentDto;
 import com.example.app.entities.ItemEntity;
+import com.example.app.exceptions.InvalidSearchRequestException;
+import com.example.app.exceptions.ItemPreconditionFailedException;
+import com.example.app.exceptions.ItemVersionConflictException;
+import com.example.app.services.IdempotentRequests;
+import com.example.app.services.ItemIngestService;
+import com.example.app.services.ItemSearchService;
 import com.example.app.services.ItemService;
+import com.example.app.services.StockService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.security.Principal;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,36 +48,185 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ItemController {
 
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final ItemService itemService;
+    private final ItemIngestService itemIngestService;
+    private final ItemSearchService itemSearchService;
+    private final StockService stockService;
+    private final IdempotentRequests idempotentRequests;
+    private final ObjectMapper objectMapper;
+    private final ContentNegotiationManager contentNegotiationManager;
 
+    /**
+     * Answers a matching {@code If-None-Match} with 304 before the body is serialized (handled for GET by the
+     * ResponseEntity return value handler); the item comes from the cache, so a hit costs no query either.
+     */
     @GetMapping("/{uuid}")
-    public ResponseEntity<ItemEntity> getItemById(@PathVariable UUID uuid) {
-        return new ResponseEntity<>(itemService.getItemById(uuid), HttpStatus.OK);
+    public ResponseEntity<ItemResponse> getItemById(@PathVariable UUID uuid, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        return withETag(ResponseEntity.ok(), itemService.getItemById(uuid), representation(request));
     }
 
     @GetMapping
-    public ResponseEntity<List<ItemEntity>> getAll() {
-        return new ResponseEntity<>(itemService.getAll(), HttpStatus.OK);
+    public ResponseEntity<ItemPage> getAll(@RequestParam(required = false) UUID cursor,
+                                           @RequestParam(defaultValue = "" + ItemService.DEFAULT_PAGE_SIZE) int limit,
+                                           NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        var page = itemService.getAll(cursor, limit);
+        var representation = representation(request);
+        var response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (representation == null)
+            return response.body(page);
+        return response.contentType(representation).eTag(ItemETags.of(page, representation)).body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ItemSearchPage> search(@RequestParam(required = false) String category,
+                                                 @RequestParam(required = false) BigDecimal minPrice,
+                                                 @RequestParam(required = false) BigDecimal maxPrice,
+                                                 @RequestParam(required = false) String namePrefix,
+                                                 @RequestParam(defaultValue = "id") String sort,
+                                                 @RequestParam(defaultValue = "asc") String direction,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "" + ItemService.DEFAULT_PAGE_SIZE) int limit) {
+        var sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new InvalidSearchRequestException("Unknown direction " + direction));
+        var criteria = new ItemSearchCriteria(category, minPrice, maxPrice, namePrefix,
+                ItemSortField.fromParameter(sort), sortDirection, cursor, limit);
+        return new ResponseEntity<>(itemSearchService.search(criteria), HttpStatus.OK);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<ItemLookupResult> lookup(@RequestBody @NotEmpty @Size(max = ItemService.MAX_LOOKUP_SIZE) List<UUID> ids) {
+        return new ResponseEntity<>(itemService.lookup(ids), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAll(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var itemWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+
+        try (var writer = itemWriter.writeValues(response.getOutputStream())) {
+            itemService.streamAll(item -> {
+                try {
+                    writer.write(item);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 
+    /**
+     * A retry carrying the {@code Idempotency-Key} of an earlier request gets that request's item back instead
+     * of inserting a duplicate.
+     */
     @PostMapping
-    public ResponseEntity<ItemEntity> saveOneItem(@RequestBody @Valid ItemEntity itemEntity) {
-        return new ResponseEntity<>(itemService.saveOneItem(itemEntity), HttpStatus.CREATED);
+    public ResponseEntity<ItemResponse> saveOneItem(@RequestBody @Valid ItemEntity itemEntity,
+                                                    @RequestHeader(value = IDEMPOTENCY_KEY, required = false) @Size(max = 255) String idempotencyKey,
+                                                    Principal principal,
+                                                    NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        var saved = idempotentRequests.execute("saveOneItem", userOf(principal), idempotencyKey, itemEntity,
+                () -> itemService.saveOneItem(itemEntity));
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), saved, representation(request));
     }
 
     @PostMapping("/saveAll")
-    public ResponseEntity<List<ItemEntity>> saveItemList(@RequestBody @Valid List<ItemEntity> itemEntityList) {
-        return new ResponseEntity<>(itemService.saveAllItems(itemEntityList), HttpStatus.CREATED);
+    public ResponseEntity<List<ItemResponse>> saveItemList(@RequestBody @Valid List<ItemEntity> itemEntityList,
+                                                           @RequestHeader(value = IDEMPOTENCY_KEY, required = false) @Size(max = 255) String idempotencyKey,
+                                                           Principal principal) {
+        var saved = idempotentRequests.execute("saveAllItems", userOf(principal), idempotencyKey, itemEntityList,
+                () -> itemService.saveAllItems(itemEntityList));
+        return new ResponseEntity<>(saved, HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkIngestResult> bulkIngest(HttpServletRequest request) throws IOException {
+        var result = itemIngestService.ingest(request.getInputStream());
+        var status = result.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(result, status);
     }
 
+    /**
+     * An {@code If-Match} header takes precedence over the version in the body; a mismatch answers 412.
+     */
     @PutMapping("/{uuid}")
-    public ResponseEntity<ItemEntity> updateItem(@PathVariable UUID uuid, @RequestBody ItemUpdateDto itemUpdateDto) {
-        return new ResponseEntity<>(itemService.updateItem(uuid, itemUpdateDto), HttpStatus.OK);
+    public ResponseEntity<ItemResponse> updateItem(@PathVariable UUID uuid, @RequestBody ItemUpdateDto itemUpdateDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        var representation = representation(request);
+        var expectedVersion = expectedVersion(uuid, ifMatch);
+        if (expectedVersion != null)
+            itemUpdateDto.setVersion(expectedVersion);
+        try {
+            return withETag(ResponseEntity.ok(), itemService.updateItem(uuid, itemUpdateDto), representation);
+        } catch (ItemVersionConflictException e) {
+            if (expectedVersion == null)
+                throw e;
+            throw new ItemPreconditionFailedException(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{uuid}/reserve")
+    public ResponseEntity<Void> reserveStock(@PathVariable UUID uuid, @RequestBody @Valid StockAdjustmentDto adjustment) {
+        stockService.reserve(uuid, adjustment.quantity());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @PostMapping("/{uuid}/release")
+    public ResponseEntity<Void> releaseStock(@PathVariable UUID uuid, @RequestBody @Valid StockAdjustmentDto adjustment) {
+        stockService.release(uuid, adjustment.quantity());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     @DeleteMapping("/{uuid}")
-    public ResponseEntity<ItemEntity> updateItem(@PathVariable UUID uuid) {
-        itemService.deleteById(uuid);
+    public ResponseEntity<ItemEntity> updateItem(@PathVariable UUID uuid,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            itemService.deleteById(uuid, expectedVersion(uuid, ifMatch));
+        } catch (ItemVersionConflictException e) {
+            throw new ItemPreconditionFailedException(e.getMessage());
+        }
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    /**
+     * Version the item must still be at for an {@code If-Match} header to hold, or null when there is no
+     * condition. With several tags the current version is read first; the write still checks it atomically.
+     */
+    private Long expectedVersion(UUID uuid, String ifMatch) {
+        var accepted = ItemETags.acceptedVersions(ifMatch);
+        if (accepted == null)
+            return null;
+        if (accepted.isEmpty())
+            throw new ItemPreconditionFailedException("Item " + uuid + " matches none of " + ifMatch);
+        if (accepted.size() == 1)
+            return accepted.iterator().next();
+
+        var current = itemService.getItemById(uuid).version();
+        if (!accepted.contains(current))
+            throw new ItemPreconditionFailedException("Item " + uuid + " matches none of " + ifMatch);
+        return current;
+    }
+
+    private static String userOf(Principal principal) {
+        return principal == null ? null : principal.getName();
+    }
+
+    /**
+     * JSON or CBOR as negotiated for this request, or null when neither is acceptable and Spring answers 406.
+     * Responses carrying a tag are written in exactly this type, so the tag always matches the bytes sent.
+     */
+    private MediaType representation(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        return ItemETags.representation(contentNegotiationManager.resolveMediaTypes(request));
+    }
+
+    private static ResponseEntity<ItemResponse> withETag(ResponseEntity.BodyBuilder response, ItemResponse item,
+                                                         MediaType representation) {
+        response.varyBy(HttpHeaders.ACCEPT);
+        var etag = representation == null ? null : ItemETags.of(item, representation);
+        return etag == null ? response.body(item) : response.contentType(representation).eTag(etag).body(item);
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.app.controllers;
+
+import com.example.app.dto.ItemPage;
+import com.example.app.dto.ItemResponse;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Strong ETags for item representations. Every write bumps an item's version, so the version identifies the
+ * item's state; a page is identified by the ids and versions it holds plus its next cursor. JSON and CBOR bodies
+ * of the same state differ byte for byte, so a CBOR tag carries a {@code +cbor} suffix, e.g. {@code "3+cbor"}.
+ */
+final class ItemETags {
+
+    private static final String CBOR_SUFFIX = "+cbor";
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private ItemETags() {
+    }
+
+    /**
+     * JSON or CBOR, whichever the message converters would write for these acceptable types: the most specific
+     * match wins and JSON, the first converter, wins ties. Null when neither is acceptable.
+     */
+    static MediaType representation(List<MediaType> acceptable) {
+        var candidates = new ArrayList<MediaType>();
+        for (var requested : acceptable)
+            for (var representation : REPRESENTATIONS)
+                if (requested.isCompatibleWith(representation))
+                    candidates.add(representation.copyQualityValue(requested));
+        MimeTypeUtils.sortBySpecificity(candidates);
+        return candidates.isEmpty() ? null : candidates.get(0).removeQualityValue();
+    }
+
+    /**
+     * Null for an item without a version, which has no representation worth revalidating.
+     */
+    static String of(ItemResponse item, MediaType representation) {
+        return item.version() == null ? null : "\"" + item.version() + suffix(representation) + "\"";
+    }
+
+    static String of(ItemPage page, MediaType representation) {
+        var buffer = ByteBuffer.allocate(page.items().size() * 24 + 16);
+        for (var item : page.items())
+            putUuid(buffer, item.id()).putLong(item.version() == null ? -1 : item.version());
+        if (page.nextCursor() != null)
+            putUuid(buffer, page.nextCursor());
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(Arrays.copyOf(buffer.array(), buffer.position()));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + suffix(representation) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Item versions an {@code If-Match} header accepts: null when there is no condition (no header or
+     * {@code *}), otherwise the versions of its strong ETags in either representation, possibly none.
+     */
+    static Set<Long> acceptedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*"))
+            return null;
+
+        var versions = new HashSet<Long>();
+        for (var tag : ifMatch.split(",")) {
+            var value = tag.trim();
+            // weak tags never match: If-Match uses strong comparison
+            if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\""))
+                continue;
+            var version = value.substring(1, value.length() - 1);
+            if (version.endsWith(CBOR_SUFFIX))
+                version = version.substring(0, version.length() - CBOR_SUFFIX.length());
+            try {
+                versions.add(Long.parseLong(version));
+            } catch (NumberFormatException e) {
+                // not one of our tags, cannot match
+            }
+        }
+        return versions;
+    }
+
+    private static String suffix(MediaType representation) {
+        return MediaType.APPLICATION_CBOR.equals(representation) ? CBOR_SUFFIX : "";
+    }
+
+    private static ByteBuffer putUuid(ByteBuffer buffer, UUID id) {
+        return buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.app.controllers;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.services.ItemService;
+import com.example.app.services.ItemTextIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/item/search/text")
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "item.search.text-index.enabled", havingValue = "true")
+public class ItemTextSearchController {
+
+    private final ItemTextIndex itemTextIndex;
+    private final ItemService itemService;
+
+    @GetMapping
+    public ResponseEntity<List<ItemResponse>> search(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "" + ItemService.DEFAULT_PAGE_SIZE) int limit) {
+        var ids = itemTextIndex.search(q, Math.min(Math.max(limit, 1), ItemService.MAX_PAGE_SIZE));
+        return new ResponseEntity<>(itemService.lookup(ids).items(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.app.dto;
+
+import java.util.List;
+
+public record BulkIngestResult(long accepted, long rejected, List<IngestFailure> failures) {
+
+    public record IngestFailure(long fromIndex, int count, String reason) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.app.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record ItemLookupResult(List<ItemResponse> items, Set<UUID> notFound) {
+}
@@ -0,0 +1,7 @@
+package com.example.app.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ItemPage(List<ItemResponse> items, UUID nextCursor) {
+}
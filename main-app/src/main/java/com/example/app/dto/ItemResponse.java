@@ -0,0 +1,25 @@
+package com.example.app.dto;
+
+import com.example.app.entities.ItemEntity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read model of an item, serialized in place of {@link ItemEntity}. Read queries select it directly
+ * (constructor projection), so no entity is hydrated, tracked or dirty-checked; it is also what the "item"
+ * cache holds.
+ */
+public record ItemResponse(UUID id,
+                           String name,
+                           String description,
+                           BigDecimal price,
+                           Integer quantity,
+                           String category,
+                           Long version) {
+
+    public static ItemResponse of(ItemEntity item) {
+        return new ItemResponse(item.getId(), item.getName(), item.getDescription(), item.getPrice(),
+                item.getQuantity(), item.getCategory(), item.getVersion());
+    }
+}
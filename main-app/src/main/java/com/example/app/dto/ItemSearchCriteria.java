@@ -0,0 +1,31 @@
+package com.example.app.dto;
+
+import com.example.app.exceptions.InvalidSearchRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters, order and position of a {@code GET /api/v1/item/search} page. {@code cursor} is the
+ * {@code nextCursor} of the previous page and is only valid with the same sort and direction.
+ */
+public record ItemSearchCriteria(String category,
+                                 BigDecimal minPrice,
+                                 BigDecimal maxPrice,
+                                 String namePrefix,
+                                 ItemSortField sort,
+                                 Sort.Direction direction,
+                                 String cursor,
+                                 int limit) {
+
+    public enum ItemSortField {
+        ID, PRICE, NAME;
+
+        public static ItemSortField fromParameter(String value) {
+            for (var field : values())
+                if (field.name().equalsIgnoreCase(value))
+                    return field;
+            throw new InvalidSearchRequestException("Cannot sort by " + value);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.app.dto;
+
+import java.util.List;
+
+public record ItemSearchPage(List<ItemResponse> items, String nextCursor) {
+}
@@ -18,4 +18,9 @@ public class ItemUpdateDto {
     private String description;
     private Integer quantity;
     private String category;
+
+    /**
+     * Expected current version of the item; when present the update is rejected if the item changed meanwhile.
+     */
+    private Long version;
 }
@@ -0,0 +1,10 @@
+package com.example.app.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record StockAdjustmentDto(@NotNull @Positive @Max(MAX_QUANTITY) Integer quantity) {
+
+    public static final int MAX_QUANTITY = 1_000_000;
+}
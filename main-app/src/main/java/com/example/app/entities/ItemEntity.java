@@ -4,6 +4,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -11,6 +14,11 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_item_category_price", columnList = "category, price, id"),
+        @Index(name = "idx_item_price", columnList = "price, id"),
+        @Index(name = "idx_item_name", columnList = "name, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -39,4 +47,7 @@ public class ItemEntity {
 
     @Column(length = 100)
     private String category;
+
+    @Version
+    private Long version;
 }
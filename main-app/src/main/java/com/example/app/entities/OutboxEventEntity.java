@@ -0,0 +1,91 @@
+package com.example.app.entities;
+
+import com.example.events.ItemChangeEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * An {@link ItemChangeEvent} waiting in the {@code item_outbox} table to be relayed to Kafka. Rows are written
+ * in the transaction of the item change they describe; their id order is the publish order.
+ */
+@Entity
+@Table(name = "item_outbox")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class OutboxEventEntity {
+
+    /**
+     * Buckets an item id hashes to; relay workers each take a share of them.
+     */
+    public static final int BUCKETS = 1024;
+
+    /**
+     * Drawn from the database sequence one value at a time, so ids follow the order rows are written in across all
+     * writer replicas. Events are saved after their item's row was written and locked, so a later change to an
+     * item always gets a higher id. A pooled allocation would hand each JVM its own block of ids and break that.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_outbox_seq")
+    @SequenceGenerator(name = "item_outbox_seq", sequenceName = "item_outbox_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private ItemChangeEvent.Type type;
+
+    @Column(nullable = false)
+    private UUID itemId;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    @Column(nullable = false)
+    private long timestamp;
+
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 300)
+    private String description;
+
+    private BigDecimal price;
+
+    private Integer quantity;
+
+    @Column(length = 100)
+    private String category;
+
+    public static OutboxEventEntity of(ItemChangeEvent event) {
+        return OutboxEventEntity.builder()
+                .type(event.type())
+                .itemId(event.itemId())
+                .bucket(Math.floorMod(event.itemId().hashCode(), BUCKETS))
+                .timestamp(event.timestamp())
+                .name(event.name())
+                .description(event.description())
+                .price(event.price())
+                .quantity(event.quantity())
+                .category(event.category())
+                .build();
+    }
+
+    public ItemChangeEvent toEvent() {
+        return new ItemChangeEvent(type, itemId, timestamp, name, description, price, quantity, category);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.events;
+
+import com.example.app.entities.ItemEntity;
+import com.example.events.ItemChangeEvent;
+
+/**
+ * Maps item writes to the {@link ItemChangeEvent} published inside the writing transaction and delivered to
+ * Kafka once it commits.
+ */
+public final class ItemEvents {
+
+    private ItemEvents() {
+    }
+
+    public static ItemChangeEvent created(ItemEntity item) {
+        return of(ItemChangeEvent.Type.CREATED, item);
+    }
+
+    public static ItemChangeEvent updated(ItemEntity item) {
+        return of(ItemChangeEvent.Type.UPDATED, item);
+    }
+
+    private static ItemChangeEvent of(ItemChangeEvent.Type type, ItemEntity item) {
+        return new ItemChangeEvent(type, item.getId(), System.currentTimeMillis(), item.getName(),
+                item.getDescription(), item.getPrice(), item.getQuantity(), item.getCategory());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.app.events;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch of item ids whose cached copies other replicas must drop, as sent on {@code item_invalidation}.
+ * Encoded as origin replica id, oldest change time (epoch millis), id count and the ids, 16 bytes per UUID.
+ *
+ * @param origin       replica that changed the items; it skips its own batches
+ * @param oldestChange commit time of the oldest change in the batch, the start of the invalidation lag
+ */
+public record ItemInvalidation(UUID origin, long oldestChange, List<UUID> itemIds) {
+
+    public byte[] toBytes() {
+        var buffer = ByteBuffer.allocate(16 + 8 + 4 + 16 * itemIds.size());
+        putUuid(buffer, origin);
+        buffer.putLong(oldestChange);
+        buffer.putInt(itemIds.size());
+        itemIds.forEach(id -> putUuid(buffer, id));
+        return buffer.array();
+    }
+
+    public static ItemInvalidation fromBytes(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        var origin = getUuid(buffer);
+        var oldestChange = buffer.getLong();
+        var count = buffer.getInt();
+        var itemIds = new ArrayList<UUID>(count);
+        for (int i = 0; i < count; i++)
+            itemIds.add(getUuid(buffer));
+        return new ItemInvalidation(origin, oldestChange, itemIds);
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
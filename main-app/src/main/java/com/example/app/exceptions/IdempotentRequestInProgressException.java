@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class InvalidSearchRequestException extends RuntimeException {
+
+    public InvalidSearchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class ItemPreconditionFailedException extends RuntimeException {
+
+    public ItemPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class ItemVersionConflictException extends RuntimeException {
+
+    public ItemVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class LoginOverloadedException extends RuntimeException {
+
+    public LoginOverloadedException(String message) {
+        super(message);
+    }
+}
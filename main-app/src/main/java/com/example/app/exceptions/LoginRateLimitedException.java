@@ -0,0 +1,16 @@
+package com.example.app.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoginRateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginRateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
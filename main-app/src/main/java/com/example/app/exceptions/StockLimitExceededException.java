@@ -0,0 +1,8 @@
+package com.example.app.exceptions;
+
+public class StockLimitExceededException extends RuntimeException {
+
+    public StockLimitExceededException(String message) {
+        super(message);
+    }
+}
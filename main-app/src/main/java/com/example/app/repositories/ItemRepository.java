@@ -1,11 +1,100 @@
 package com.example.app.repositories;
 
+import com.example.app.dto.ItemResponse;
 import com.example.app.entities.ItemEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface ItemRepository extends JpaRepository<ItemEntity, UUID> {
+public interface ItemRepository extends JpaRepository<ItemEntity, UUID>, JpaSpecificationExecutor<ItemEntity>,
+        ItemResponseQueries {
+
+    // Read methods returning ItemResponse are constructor projections: the columns go straight into the record
+
+    Optional<ItemResponse> findResponseById(UUID id);
+
+    List<ItemResponse> findResponsesByIdIn(Collection<UUID> ids);
+
+    List<ItemResponse> findAllByOrderByIdAsc(Limit limit);
+
+    List<ItemResponse> findByIdGreaterThanOrderByIdAsc(UUID cursor, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.example.app.dto.ItemResponse(i.id, i.name, i.description, i.price, i.quantity, i.category, i.version)
+            from ItemEntity i order by i.id
+            """)
+    Stream<ItemResponse> streamAll();
+
+    /**
+     * Applies the non-null arguments to the item and bumps its version in a single statement, returning the row
+     * as updated. When {@code version} is given the update only applies if it matches the current version.
+     * Empty when the item does not exist or the version did not match.
+     */
+    @Query(value = """
+            SELECT * FROM FINAL TABLE (
+                UPDATE item_entity SET
+                    name = COALESCE(CAST(:name AS VARCHAR(100)), name),
+                    description = COALESCE(CAST(:description AS VARCHAR(300)), description),
+                    price = COALESCE(CAST(:price AS NUMERIC(38, 2)), price),
+                    quantity = COALESCE(CAST(:quantity AS INTEGER), quantity),
+                    category = COALESCE(CAST(:category AS VARCHAR(100)), category),
+                    version = version + 1
+                WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            )
+            """, nativeQuery = true)
+    Optional<ItemEntity> patch(@Param("id") UUID id,
+                               @Param("name") String name,
+                               @Param("description") String description,
+                               @Param("price") BigDecimal price,
+                               @Param("quantity") Integer quantity,
+                               @Param("category") String category,
+                               @Param("version") Long version);
+
+    /**
+     * Atomically takes {@code amount} from the item's stock if enough is left, returning the row as updated.
+     * Empty when the item does not exist or has less than {@code amount} in stock.
+     */
+    @Query(value = """
+            SELECT * FROM FINAL TABLE (
+                UPDATE item_entity SET quantity = quantity - :amount, version = version + 1
+                WHERE id = :id AND quantity >= :amount
+            )
+            """, nativeQuery = true)
+    Optional<ItemEntity> reserveStock(@Param("id") UUID id, @Param("amount") int amount);
+
+    /**
+     * Atomically returns {@code amount} to the item's stock, returning the row as updated. Empty when the item
+     * does not exist or its stock would no longer fit the INTEGER column.
+     */
+    @Query(value = """
+            SELECT * FROM FINAL TABLE (
+                UPDATE item_entity SET quantity = quantity + :amount, version = version + 1
+                WHERE id = :id AND quantity <= 2147483647 - :amount
+            )
+            """, nativeQuery = true)
+    Optional<ItemEntity> releaseStock(@Param("id") UUID id, @Param("amount") int amount);
+
+    /**
+     * Deletes the item only if it is still at {@code version}; returns the number of rows deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM ItemEntity i WHERE i.id = :id AND i.version = :version")
+    int deleteByIdAndVersion(@Param("id") UUID id, @Param("version") long version);
 }
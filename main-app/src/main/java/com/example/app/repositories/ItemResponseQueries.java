@@ -0,0 +1,17 @@
+package com.example.app.repositories;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.entities.ItemEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification queries selecting {@link ItemResponse} rows, which {@link ItemRepository#findBy} can only do by
+ * loading entities first.
+ */
+public interface ItemResponseQueries {
+
+    List<ItemResponse> findResponses(Specification<ItemEntity> spec, Sort sort, int limit);
+}
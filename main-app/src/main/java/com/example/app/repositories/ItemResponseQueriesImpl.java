@@ -0,0 +1,33 @@
+package com.example.app.repositories;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.entities.ItemEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class ItemResponseQueriesImpl implements ItemResponseQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ItemResponse> findResponses(Specification<ItemEntity> spec, Sort sort, int limit) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(ItemResponse.class);
+        var item = query.from(ItemEntity.class);
+
+        query.select(cb.construct(ItemResponse.class, item.get("id"), item.get("name"), item.get("description"),
+                item.get("price"), item.get("quantity"), item.get("category"), item.get("version")));
+        var predicate = spec == null ? null : spec.toPredicate(item, query, cb);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(sort, item, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
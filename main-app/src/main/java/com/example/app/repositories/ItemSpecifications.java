@@ -0,0 +1,63 @@
+package com.example.app.repositories;
+
+import com.example.app.entities.ItemEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Filters for {@link ItemRepository#findResponses}; each returns null when its argument is absent, which
+ * {@link Specification#where}/{@code and} treat as "no restriction".
+ */
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    public static Specification<ItemEntity> categoryIs(String category) {
+        return category == null ? null : (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<ItemEntity> priceAtLeast(BigDecimal minPrice) {
+        return minPrice == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<ItemEntity> priceAtMost(BigDecimal maxPrice) {
+        return maxPrice == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    /**
+     * Case-sensitive so the {@code name} index can serve it as a range scan.
+     */
+    public static Specification<ItemEntity> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty())
+            return null;
+        var pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, '\\');
+    }
+
+    public static Specification<ItemEntity> idAfter(UUID id, Sort.Direction direction) {
+        return (root, query, cb) -> direction.isAscending()
+                ? cb.greaterThan(root.get("id"), id)
+                : cb.lessThan(root.get("id"), id);
+    }
+
+    /**
+     * Keyset condition for the rows after ({@code sortValue}, {@code id}) in the given order: the sort field
+     * strictly past the value, or equal to it with the id as tie-breaker.
+     */
+    public static <T extends Comparable<? super T>> Specification<ItemEntity> after(String sortField, T sortValue,
+                                                                                   UUID id, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            var field = root.<T>get(sortField);
+            var idField = root.<UUID>get("id");
+            if (direction.isAscending())
+                return cb.or(cb.greaterThan(field, sortValue),
+                        cb.and(cb.equal(field, sortValue), cb.greaterThan(idField, id)));
+            return cb.or(cb.lessThan(field, sortValue),
+                    cb.and(cb.equal(field, sortValue), cb.lessThan(idField, id)));
+        };
+    }
+}
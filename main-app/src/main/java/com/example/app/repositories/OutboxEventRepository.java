@@ -0,0 +1,22 @@
+package com.example.app.repositories;
+
+import com.example.app.entities.OutboxEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    List<OutboxEventEntity> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Oldest events of the items whose bucket falls in {@code slice} out of {@code slices}.
+     */
+    @Query("SELECT o FROM OutboxEventEntity o WHERE MOD(o.bucket, :slices) = :slice ORDER BY o.id")
+    List<OutboxEventEntity> findSlice(@Param("slice") int slice, @Param("slices") int slices, Limit limit);
+}
@@ -1,6 +1,7 @@
 package com.example.app.repositories;
 
 import com.example.app.entities.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +10,6 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
+    @EntityGraph(attributePaths = "roles")
     Optional<UserEntity> findByUsername(String username);
 }
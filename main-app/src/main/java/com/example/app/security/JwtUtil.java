@@ -1,16 +1,29 @@
 package com.example.app.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Component
 public class JwtUtil {
@@ -18,25 +31,53 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize;
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Key signingKey;
+
+    /**
+     * SHA-256 digests of tokens whose signature was already checked, each expiring with the token's exp.
+     */
+    private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(Base64.getDecoder().decode(SECRET_KEY), SignatureAlgorithm.HS256.getJcaName());
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Parses and verifies the token at most once while it is valid, later calls are served from the cache.
+     * A token without an exp claim is rejected: it would never expire and could not be cached.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, badly signed, expired or has no exp
+     */
+    public VerifiedToken verify(String token) {
+        var digest = digest(token);
+        var verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null)
+            return verified;
+
+        Jws<Claims> jws = Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        if (claims.getExpiration() == null)
+            throw new MissingClaimException(jws.getHeader(), claims, "JWT has no " + Claims.EXPIRATION + " claim");
+
+        verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+        verifiedTokens.put(digest, verified);
+        return verified;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+    public String extractUsername(String token) {
+        return verify(token).username();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Date extractExpiration(String token) {
+        return Date.from(verify(token).expiration());
     }
 
     public String generateToken(String username) {
@@ -50,12 +91,39 @@ public class JwtUtil {
                 setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(SignatureAlgorithm.HS256, Base64.getDecoder().decode(SECRET_KEY))
+                .signWith(SignatureAlgorithm.HS256, signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        var verified = verify(token);
+        return (verified.username().equals(username) && !verified.isExpired());
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            var sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiration implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
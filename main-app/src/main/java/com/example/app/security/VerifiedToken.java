@@ -0,0 +1,13 @@
+package com.example.app.security;
+
+import java.time.Instant;
+
+/**
+ * Result of parsing and verifying a JWT once: the claims the request pipeline needs, immutable.
+ */
+public record VerifiedToken(String username, Instant expiration) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+}
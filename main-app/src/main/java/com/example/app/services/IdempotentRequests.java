@@ -0,0 +1,127 @@
+package com.example.app.services;
+
+import com.example.app.config.Weighted;
+import com.example.app.exceptions.IdempotencyKeyReusedException;
+import com.example.app.exceptions.IdempotentRequestInProgressException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write at most once per {@code Idempotency-Key}. The first request with a key runs it and keeps the
+ * result in the "idempotency" cache, which bounds how much is remembered and for how long
+ * (caches.specs.idempotency). A retry with the same key gets that result back without running the write again,
+ * and a duplicate arriving while the first is still running waits up to {@code item.idempotency.wait-timeout}
+ * for it.
+ * <p>
+ * Keys are scoped per operation and user. A failed write is forgotten so that it can be retried, and a key sent
+ * again with a different request, told apart by the SHA-256 of its JSON, is rejected rather than answered with
+ * another request's result. Entries weigh the size of that JSON, which the saved items returned to a retry
+ * roughly match.
+ */
+@Service
+public class IdempotentRequests {
+
+    private final Cache requests;
+    private final MeterRegistry meterRegistry;
+    private final ObjectWriter requestWriter;
+    private final Duration waitTimeout;
+
+    public IdempotentRequests(CacheManager cacheManager,
+                              MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper,
+                              @Value("${item.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.requests = cacheManager.getCache("idempotency");
+        this.meterRegistry = meterRegistry;
+        this.requestWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Result of {@code write} for {@code request}, run now or remembered from an earlier request with the same
+     * key; {@code write} is simply run when there is no key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String user, String idempotencyKey, Object request, Supplier<T> write) {
+        if (idempotencyKey == null)
+            return write.get();
+
+        // taken before the write, which may modify the request (ids assigned on insert)
+        var body = serialize(request);
+        var key = new Key(operation, user, idempotencyKey);
+        var entry = new Entry(sha256(body), body.length, new CompletableFuture<>());
+        var existing = requests.putIfAbsent(key, entry);
+        if (existing != null) {
+            var first = (Entry) existing.get();
+            if (!MessageDigest.isEqual(first.fingerprint(), entry.fingerprint()))
+                throw new IdempotencyKeyReusedException("Idempotency-Key " + idempotencyKey + " was used for a different request");
+            meterRegistry.counter("item.idempotency.replayed", "operation", operation).increment();
+            return (T) await(idempotencyKey, first.result());
+        }
+
+        try {
+            var result = write.get();
+            entry.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            requests.evict(key);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(String idempotencyKey, CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException("Request with Idempotency-Key " + idempotencyKey + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException("Request with Idempotency-Key " + idempotencyKey + " is still in progress");
+        }
+    }
+
+    private byte[] serialize(Object request) {
+        try {
+            return requestWriter.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String operation, String user, String idempotencyKey) {
+    }
+
+    private record Entry(byte[] fingerprint, int weight, CompletableFuture<Object> result) implements Weighted {
+    }
+}
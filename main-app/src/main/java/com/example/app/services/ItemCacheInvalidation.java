@@ -0,0 +1,173 @@
+package com.example.app.services;
+
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.events.ItemInvalidation;
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the local "item" cache coherent with the other replicas. Ids of items changed here are collected once
+ * their transaction commits, de-duplicated, and sent every {@code flush-interval} ms as one
+ * {@link ItemInvalidation} batch. Every replica reads the whole topic, without a consumer group, and evicts the
+ * listed items (and the "itemPage" cache, whose pages may contain them), skipping its own batches: this replica
+ * already wrote the new state into its cache.
+ * <p>
+ * A lost batch leaves entries stale until their expireAfterWrite (caches.specs.item), which bounds staleness.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "item.cache.invalidation.enabled", havingValue = "true")
+public class ItemCacheInvalidation {
+
+    private static final String ITEM_BY_ID = "getItemById";
+
+    @Getter
+    private final UUID replicaId = UUID.randomUUID();
+
+    private final DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final String topic;
+    private final int maxBatchSize;
+    private final Cache itemCache;
+    private final Cache itemPageCache;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong oldestPending = new AtomicLong();
+
+    private final Counter sendErrors;
+    private final DistributionSummary sentBatch;
+    private final Counter evicted;
+    private final Timer lag;
+
+    public ItemCacheInvalidation(KafkaProperties kafkaProperties,
+                                 CacheManager cacheManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${item.cache.invalidation.topic}") String topic,
+                                 @Value("${item.cache.invalidation.max-batch-size:1000}") int maxBatchSize) {
+        // not a bean: a second KafkaTemplate bean would replace Boot's item event template
+        var producerProps = kafkaProperties.buildProducerProperties(null);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+        this.producerFactory = new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new ByteArraySerializer());
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.topic = topic;
+        this.maxBatchSize = maxBatchSize;
+        this.itemCache = cacheManager.getCache("item");
+        this.itemPageCache = cacheManager.getCache("itemPage");
+
+        Gauge.builder("item.cache.invalidation.pending", pending, Set::size)
+                .description("Changed item ids waiting to be sent to the other replicas")
+                .register(meterRegistry);
+        this.sendErrors = Counter.builder("item.cache.invalidation.send.errors")
+                .register(meterRegistry);
+        this.sentBatch = DistributionSummary.builder("item.cache.invalidation.sent")
+                .description("Item ids per invalidation batch sent")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("item.cache.invalidation.evicted")
+                .description("Item entries evicted on behalf of other replicas")
+                .register(meterRegistry);
+        this.lag = Timer.builder("item.cache.invalidation.lag")
+                .description("Time from the oldest change in a batch to its eviction on this replica")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangeEvent event) {
+        oldestPending.compareAndSet(0, System.currentTimeMillis());
+        pending.add(event.itemId());
+    }
+
+    @Scheduled(fixedDelayString = "${item.cache.invalidation.flush-interval:50}")
+    public void flush() {
+        if (pending.isEmpty())
+            return;
+
+        var oldestChange = oldestPending.getAndSet(0);
+        var batch = new ArrayList<UUID>(Math.min(pending.size(), maxBatchSize));
+        for (var iterator = pending.iterator(); iterator.hasNext(); ) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == maxBatchSize) {
+                send(batch, oldestChange);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty())
+            send(batch, oldestChange);
+    }
+
+    @KafkaListener(topicPartitions = @TopicPartition(topic = "${item.cache.invalidation.topic}", partitions = "0"),
+            containerFactory = "invalidationListenerContainerFactory")
+    public void onInvalidations(List<ConsumerRecord<String, byte[]>> records) {
+        var now = System.currentTimeMillis();
+        var evictedHere = 0;
+        for (var record : records) {
+            var invalidation = ItemInvalidation.fromBytes(record.value());
+            if (replicaId.equals(invalidation.origin()))
+                continue;
+
+            invalidation.itemIds().forEach(id -> itemCache.evict(CustomKeyGenerator.key(ITEM_BY_ID, id)));
+            evictedHere += invalidation.itemIds().size();
+            lag.record(Math.max(0, now - invalidation.oldestChange()), TimeUnit.MILLISECONDS);
+        }
+
+        if (evictedHere > 0) {
+            itemPageCache.clear();
+            evicted.increment(evictedHere);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        producerFactory.destroy();
+    }
+
+    private void send(List<UUID> itemIds, long oldestChange) {
+        var invalidation = new ItemInvalidation(replicaId, oldestChange == 0 ? System.currentTimeMillis() : oldestChange, itemIds);
+        sentBatch.record(itemIds.size());
+        try {
+            kafkaTemplate.send(topic, replicaId.toString(), invalidation.toBytes()).whenComplete((result, ex) -> {
+                if (ex != null)
+                    onSendFailure(itemIds, ex);
+            });
+        } catch (RuntimeException e) {
+            onSendFailure(itemIds, e);
+        }
+    }
+
+    private void onSendFailure(List<UUID> itemIds, Throwable ex) {
+        sendErrors.increment();
+        log.warn("Failed to send invalidation of {} items", itemIds.size(), ex);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.app.services;
+
+import com.example.app.dto.BulkIngestResult;
+import com.example.app.dto.BulkIngestResult.IngestFailure;
+import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemEvents;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import: items are read one by one from a JSON array or NDJSON body and written in
+ * fixed-size chunks, each in its own transaction. Hibernate JDBC batching turns a chunk into a handful
+ * of batched INSERTs, and the persistence context is flushed and cleared after every chunk.
+ */
+@Slf4j
+@Service
+public class ItemIngestService {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+    // the exception itself is only logged: its message can carry SQL, table and constraint names
+    static final String STORE_FAILED = "Items could not be stored";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ItemIngestService(ObjectMapper objectMapper,
+                             Validator validator,
+                             EntityManager entityManager,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${item.ingest.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @CacheEvict(value = "itemPage", allEntries = true)
+    public BulkIngestResult ingest(InputStream body) throws IOException {
+        var report = new Report();
+        var chunk = new ArrayList<ItemEntity>(chunkSize);
+        long index = 0;
+        long chunkStart = 0;
+
+        try (MappingIterator<ItemEntity> items = objectMapper.readerFor(ItemEntity.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                var item = items.nextValue();
+                var violations = validator.validate(item);
+
+                if (violations.isEmpty()) {
+                    item.setId(null);
+                    item.setVersion(null);
+                    chunk.add(item);
+                } else {
+                    report.reject(index, 1, describe(violations));
+                }
+                index++;
+
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, chunkStart, report);
+                    chunkStart = index;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            report.reject(index, 1, "Malformed item, import stopped: " + e.getOriginalMessage());
+        }
+
+        writeChunk(chunk, chunkStart, report);
+        return report.toResult();
+    }
+
+    private void writeChunk(List<ItemEntity> chunk, long fromIndex, Report report) {
+        if (chunk.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(item -> {
+                    entityManager.persist(item);
+                    eventPublisher.publishEvent(ItemEvents.created(item));
+                });
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.accept(chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("Bulk ingest chunk starting at {} failed", fromIndex, e);
+            report.reject(fromIndex, chunk.size(), STORE_FAILED);
+        }
+        chunk.clear();
+    }
+
+    private static String describe(Set<ConstraintViolation<ItemEntity>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static final class Report {
+
+        private long accepted;
+        private long rejected;
+        private final List<IngestFailure> failures = new ArrayList<>();
+
+        void accept(int count) {
+            accepted += count;
+        }
+
+        void reject(long fromIndex, int count, String reason) {
+            rejected += count;
+            if (failures.size() < MAX_REPORTED_FAILURES)
+                failures.add(new IngestFailure(fromIndex, count, reason));
+        }
+
+        BulkIngestResult toResult() {
+            return new BulkIngestResult(accepted, rejected, List.copyOf(failures));
+        }
+    }
+}
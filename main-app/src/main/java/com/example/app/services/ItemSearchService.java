@@ -0,0 +1,99 @@
+package com.example.app.services;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.dto.ItemSearchCriteria;
+import com.example.app.dto.ItemSearchCriteria.ItemSortField;
+import com.example.app.dto.ItemSearchPage;
+import com.example.app.entities.ItemEntity;
+import com.example.app.exceptions.InvalidSearchRequestException;
+import com.example.app.repositories.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.app.repositories.ItemSpecifications.*;
+
+/**
+ * Filtered, sorted listing with keyset pagination. Each sort order is backed by an index ending in the id
+ * (see {@link ItemEntity}), so a page is an index range scan of {@code limit + 1} rows whatever its depth.
+ * The cursor is an opaque Base64 of the sort, direction, id and sort value of the last row returned.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemSearchService {
+
+    private static final char SEPARATOR = '|';
+
+    private final ItemRepository itemRepository;
+
+    public ItemSearchPage search(ItemSearchCriteria criteria) {
+        var pageSize = Math.min(Math.max(criteria.limit(), 1), ItemService.MAX_PAGE_SIZE);
+        var direction = criteria.direction();
+        var sortField = fieldName(criteria.sort());
+
+        var spec = Specification.where(categoryIs(criteria.category()))
+                .and(priceAtLeast(criteria.minPrice()))
+                .and(priceAtMost(criteria.maxPrice()))
+                .and(nameStartsWith(criteria.namePrefix()));
+        if (criteria.cursor() != null)
+            spec = spec.and(afterCursor(criteria.cursor(), criteria.sort(), direction));
+
+        var order = criteria.sort() == ItemSortField.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+
+        var items = itemRepository.findResponses(spec, order, pageSize + 1);
+        if (items.size() <= pageSize)
+            return new ItemSearchPage(items, null);
+
+        var page = List.copyOf(items.subList(0, pageSize));
+        return new ItemSearchPage(page, cursorAfter(page.get(pageSize - 1), criteria.sort(), direction));
+    }
+
+    private static Specification<ItemEntity> afterCursor(String cursor, ItemSortField sort, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+        if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(direction.name()))
+            throw new InvalidSearchRequestException("Cursor does not belong to sort " + sort + " " + direction);
+
+        try {
+            var id = UUID.fromString(parts[2]);
+            return switch (sort) {
+                case ID -> idAfter(id, direction);
+                case PRICE -> after("price", new BigDecimal(parts[3]), id, direction);
+                case NAME -> after("name", parts[3], id, direction);
+            };
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+    }
+
+    private static String cursorAfter(ItemResponse last, ItemSortField sort, Sort.Direction direction) {
+        var value = switch (sort) {
+            case ID -> "";
+            case PRICE -> last.price().toPlainString();
+            case NAME -> last.name();
+        };
+        var raw = sort.name() + SEPARATOR + direction.name() + SEPARATOR + last.id() + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fieldName(ItemSortField sort) {
+        return switch (sort) {
+            case ID -> "id";
+            case PRICE -> "price";
+            case NAME -> "name";
+        };
+    }
+}
@@ -1,69 +1,210 @@
 package com.example.app.services;
 
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.dto.ItemLookupResult;
+import com.example.app.dto.ItemPage;
+import com.example.app.dto.ItemResponse;
 import com.example.app.dto.ItemUpdateDto;
 import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemEvents;
+import com.example.events.ItemChangeEvent;
 import com.example.app.exceptions.ItemNotFoundException;
+import com.example.app.exceptions.ItemVersionConflictException;
 import com.example.app.repositories.ItemRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_LOOKUP_SIZE = 1000;
+
+    /**
+     * Ids per {@code findAllById} IN-query, keeping statements and their plans small.
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    /**
+     * Items per flush in {@link #saveAllItems(List)}, matching hibernate.jdbc.batch_size.
+     */
+    private static final int SAVE_CHUNK_SIZE = 500;
+
+    /**
+     * SpEL prefix resolving to the key {@code getItemById} caches under; complete it with the id and ")".
+     */
+    private static final String ITEM_KEY = "T(com.example.app.config.CustomKeyGenerator).key('getItemById', ";
+
     private final ItemRepository itemRepository;
-    private final KafkaProducerService kafkaProducerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
 
     @Cacheable(value = "item", keyGenerator = "customKeyGenerator")
-    public ItemEntity getItemById(UUID uuid) {
-        return itemRepository.findById(uuid)
+    public ItemResponse getItemById(UUID uuid) {
+        return itemRepository.findResponseById(uuid)
                 .orElseThrow(ItemNotFoundException::new);
     }
 
-    @Cacheable(value = "item", keyGenerator = "customKeyGenerator")
-    public List<ItemEntity> getAll() {
-        return itemRepository.findAll();
-    }
+    /**
+     * Keyset pagination on the primary key: returns up to {@code limit} items whose id is greater than
+     * {@code cursor} (or the first page when the cursor is null) and the cursor of the next page, if any.
+     */
+    @Cacheable(value = "itemPage", keyGenerator = "customKeyGenerator")
+    public ItemPage getAll(UUID cursor, int limit) {
+        var pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var window = Limit.of(pageSize + 1);
+
+        var items = cursor == null
+                ? itemRepository.findAllByOrderByIdAsc(window)
+                : itemRepository.findByIdGreaterThanOrderByIdAsc(cursor, window);
 
-    public ItemEntity saveOneItem(ItemEntity itemEntity) {
-        kafkaProducerService.sendMessage(itemEntity.toString());
-        return itemRepository.save(itemEntity);
+        if (items.size() <= pageSize)
+            return new ItemPage(items, null);
+
+        var page = items.subList(0, pageSize);
+        return new ItemPage(List.copyOf(page), page.get(pageSize - 1).id());
     }
 
-    public List<ItemEntity> saveAllItems(List<ItemEntity> itemEntity) {
-        return itemRepository.saveAll(itemEntity);
+    /**
+     * Multi-get in request order: ids found in the "item" cache are served from it, the rest are loaded with
+     * chunked IN-queries and cached under the same key {@link #getItemById(UUID)} uses.
+     */
+    public ItemLookupResult lookup(Collection<UUID> ids) {
+        var requested = new LinkedHashSet<>(ids);
+        var itemCache = cacheManager.getCache("item");
+        var found = new HashMap<UUID, ItemResponse>(requested.size() * 2);
+        var misses = new ArrayList<UUID>();
+
+        for (var id : requested) {
+            var cached = itemCache.get(CustomKeyGenerator.key("getItemById", id), ItemResponse.class);
+            if (cached != null)
+                found.put(id, cached);
+            else
+                misses.add(id);
+        }
+
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            var chunk = misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size()));
+            for (var item : itemRepository.findResponsesByIdIn(chunk)) {
+                found.put(item.id(), item);
+                itemCache.put(CustomKeyGenerator.key("getItemById", item.id()), item);
+            }
+        }
+
+        var items = new ArrayList<ItemResponse>(found.size());
+        var notFound = new LinkedHashSet<UUID>();
+        for (var id : requested) {
+            var item = found.get(id);
+            if (item != null)
+                items.add(item);
+            else
+                notFound.add(id);
+        }
+        return new ItemLookupResult(items, notFound);
     }
 
-    public ItemEntity updateItem(UUID id, ItemUpdateDto newItem) {
-        return itemRepository.findById(id)
-                .map(oldItem -> {
-                    if (isNull(newItem.getName()))
-                        oldItem.setName(newItem.getName());
+    /**
+     * Hands every item to {@code consumer} in id order as the JDBC cursor produces them. Rows are projected
+     * rather than loaded as entities, so the persistence context stays empty and memory is constant.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ItemResponse> consumer) {
+        try (var items = itemRepository.streamAll()) {
+            items.forEach(consumer);
+        }
+    }
 
-                    if (isNull(newItem.getCategory()))
-                        oldItem.setCategory(newItem.getCategory());
+    @CachePut(value = "item", key = ITEM_KEY + "#result.id)")
+    @CacheEvict(value = "itemPage", allEntries = true)
+    @Transactional
+    public ItemResponse saveOneItem(ItemEntity itemEntity) {
+        var saved = itemRepository.save(asNew(itemEntity));
+        eventPublisher.publishEvent(ItemEvents.created(saved));
+        return ItemResponse.of(saved);
+    }
 
-                    if (isNull(newItem.getQuantity()))
-                        oldItem.setQuantity(newItem.getQuantity());
+    /**
+     * Inserts all items or none. The list is still written in chunks that are flushed as batched INSERTs and then
+     * cleared from the persistence context, so a large list does not keep every entity managed until commit;
+     * {@link ItemIngestService} is the partial-success alternative for imports that need not be atomic.
+     */
+    @CacheEvict(value = "itemPage", allEntries = true)
+    @Transactional
+    public List<ItemResponse> saveAllItems(List<ItemEntity> itemEntity) {
+        var responses = new ArrayList<ItemResponse>(itemEntity.size());
+        for (int from = 0; from < itemEntity.size(); from += SAVE_CHUNK_SIZE) {
+            var chunk = itemEntity.subList(from, Math.min(from + SAVE_CHUNK_SIZE, itemEntity.size()));
+            var saved = itemRepository.saveAll(chunk.stream().map(ItemService::asNew).toList());
+            saved.forEach(item -> {
+                eventPublisher.publishEvent(ItemEvents.created(item));
+                responses.add(ItemResponse.of(item));
+            });
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return responses;
+    }
 
-                    if (isNull(newItem.getPrice()))
-                        oldItem.setPrice(newItem.getPrice());
+    @CachePut(value = "item", key = ITEM_KEY + "#id)")
+    @CacheEvict(value = "itemPage", allEntries = true)
+    @Transactional
+    public ItemResponse updateItem(UUID id, ItemUpdateDto newItem) {
+        var updated = itemRepository.patch(id, newItem.getName(), newItem.getDescription(), newItem.getPrice(),
+                        newItem.getQuantity(), newItem.getCategory(), newItem.getVersion())
+                .orElseThrow(() -> itemRepository.existsById(id)
+                        ? new ItemVersionConflictException("Item " + id + " is no longer at version " + newItem.getVersion())
+                        : new ItemNotFoundException());
 
-                    return itemRepository.save(oldItem);
-                }).orElseThrow(ItemNotFoundException::new);
+        eventPublisher.publishEvent(ItemEvents.updated(updated));
+        return ItemResponse.of(updated);
     }
 
-    public void deleteById(UUID id) {
-        var item = getItemById(id);
-        itemRepository.deleteById(item.getId());
+    @Caching(evict = {
+            @CacheEvict(value = "item", key = ITEM_KEY + "#id)"),
+            @CacheEvict(value = "itemPage", allEntries = true)
+    })
+    @Transactional
+    public void deleteById(UUID id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            var item = getItemById(id);
+            itemRepository.deleteById(item.id());
+            // lock the row before the outbox event takes its id, like the versioned delete and updates do
+            itemRepository.flush();
+        } else if (itemRepository.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            throw itemRepository.existsById(id)
+                    ? new ItemVersionConflictException("Item " + id + " is no longer at version " + expectedVersion)
+                    : new ItemNotFoundException();
+        }
+        eventPublisher.publishEvent(ItemChangeEvent.deleted(id));
     }
 
-    private boolean isNull(Object prop) {
-        return Objects.nonNull(prop);
+    /**
+     * Creation endpoints always insert: a client-supplied id or version is ignored rather than merged over an
+     * existing row, updates go through {@link #updateItem(UUID, ItemUpdateDto)}.
+     */
+    private static ItemEntity asNew(ItemEntity item) {
+        item.setId(null);
+        item.setVersion(null);
+        return item;
     }
 }
@@ -0,0 +1,192 @@
+package com.example.app.services;
+
+import com.example.app.entities.ItemEntity;
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index from the lower-cased words of each item's name and description to item ids.
+ * A query matches items having, for every query word, some word that starts with it, so "smart pho"
+ * finds "Smartphone xyz". Built from the table once the application is ready and kept current from the
+ * committed {@link ItemChangeEvent}s; only changes made through this instance are seen. Writers take one
+ * lock so an item's words and postings change together, searches read the concurrent maps without it.
+ * Changes arriving while the rebuild streams the table are applied at once and again after it, so a row read
+ * before the change landed cannot bring back a deleted item or older words.
+ * <p>
+ * Enabled with {@code item.search.text-index.enabled=true}; it holds every item id once per word.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "item.search.text-index.enabled", havingValue = "true")
+public class ItemTextIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_WORD_LENGTH = 2;
+
+    private final ItemService itemService;
+    private final ConcurrentSkipListMap<String, Set<UUID>> postings = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Set<String>> itemWords = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicInteger wordCount = new AtomicInteger();
+    // last change per item seen during a rebuild, null otherwise; guarded by writeLock
+    private Map<UUID, ItemChangeEvent> changedDuringRebuild;
+
+    public ItemTextIndex(ItemService itemService, MeterRegistry meterRegistry) {
+        this.itemService = itemService;
+        Gauge.builder("item.search.text-index.items", itemWords, Map::size).register(meterRegistry);
+        Gauge.builder("item.search.text-index.words", wordCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var started = System.nanoTime();
+        writeLock.lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            itemService.streamAll(item -> index(item.id(), item.name(), item.description()));
+        } finally {
+            writeLock.lock();
+            try {
+                var changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                changed.values().forEach(this::apply);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        log.info("Indexed {} items ({} words) in {} ms", itemWords.size(), wordCount.get(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangeEvent event) {
+        writeLock.lock();
+        try {
+            if (changedDuringRebuild != null)
+                changedDuringRebuild.put(event.itemId(), event);
+            apply(event);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} items matching every word of {@code query}; empty when the query has no word
+     * of at least two characters. Candidates come from the query word with the fewest postings and are checked
+     * against the other words through their own word set, stopping as soon as {@code limit} are found.
+     */
+    public List<UUID> search(String query, int limit) {
+        var words = List.copyOf(words(query));
+        if (words.isEmpty())
+            return List.of();
+
+        var ranges = words.stream()
+                .map(word -> postings.subMap(word, true, word + Character.MAX_VALUE, true))
+                .toList();
+        var driver = 0;
+        var fewest = Long.MAX_VALUE;
+        for (int i = 0; i < ranges.size(); i++) {
+            var count = ranges.get(i).values().stream().mapToLong(Set::size).sum();
+            if (count < fewest) {
+                fewest = count;
+                driver = i;
+            }
+        }
+
+        var others = new ArrayList<>(words);
+        others.remove(driver);
+        var matches = new LinkedHashSet<UUID>();
+        for (var ids : ranges.get(driver).values()) {
+            for (var id : ids) {
+                if (matchesAll(id, others) && matches.add(id) && matches.size() == limit)
+                    return List.copyOf(matches);
+            }
+        }
+        return List.copyOf(matches);
+    }
+
+    private boolean matchesAll(UUID id, List<String> prefixes) {
+        var itemWords = this.itemWords.get(id);
+        if (itemWords == null)
+            return false;
+        for (var prefix : prefixes)
+            if (itemWords.stream().noneMatch(word -> word.startsWith(prefix)))
+                return false;
+        return true;
+    }
+
+    private void apply(ItemChangeEvent event) {
+        if (event.type() == ItemChangeEvent.Type.DELETED)
+            remove(event.itemId());
+        else
+            index(event.itemId(), event.name(), event.description());
+    }
+
+    private void index(UUID id, String name, String description) {
+        var words = words(name);
+        words.addAll(words(description));
+
+        writeLock.lock();
+        try {
+            var previous = itemWords.put(id, words);
+            if (previous != null)
+                previous.stream().filter(word -> !words.contains(word)).forEach(word -> unlink(word, id));
+            words.forEach(word -> postings.computeIfAbsent(word, this::newPosting).add(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void remove(UUID id) {
+        writeLock.lock();
+        try {
+            var previous = itemWords.remove(id);
+            if (previous != null)
+                previous.forEach(word -> unlink(word, id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void unlink(String word, UUID id) {
+        var ids = postings.get(word);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(word);
+            wordCount.decrementAndGet();
+        }
+    }
+
+    private Set<UUID> newPosting(String word) {
+        wordCount.incrementAndGet();
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    private static Set<String> words(String text) {
+        var words = new HashSet<String>();
+        if (text == null)
+            return words;
+        for (var word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+            if (word.length() >= MIN_WORD_LENGTH)
+                words.add(word);
+        return words;
+    }
+}
@@ -1,21 +1,70 @@
 package com.example.app.services;
 
-import lombok.RequiredArgsConstructor;
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends item events to {@code item_challenge}, keyed by item id. Sends are asynchronous: the producer batches
+ * them (linger.ms/batch-size/compression in application.yml) and callers get the delivery result as a future.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KafkaProducerService {
 
     private static final String TOPIC = "item_challenge";
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, ItemChangeEvent> kafkaTemplate;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer sendTimer;
+    private final Counter sendErrors;
+
+    public KafkaProducerService(KafkaTemplate<String, ItemChangeEvent> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendTimer = Timer.builder("item.events.send")
+                .description("Time from send to broker acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendErrors = Counter.builder("item.events.send.errors")
+                .register(meterRegistry);
+        Gauge.builder("item.events.in-flight", inFlight, AtomicInteger::get)
+                .description("Records sent but not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, ItemChangeEvent>> send(ItemChangeEvent event) {
+        var key = event.itemId().toString();
+        var start = System.nanoTime();
+        inFlight.incrementAndGet();
+
+        try {
+            return kafkaTemplate.send(TOPIC, key, event).whenComplete((result, ex) -> {
+                inFlight.decrementAndGet();
+                if (ex == null) {
+                    sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } else {
+                    onFailure(key, ex);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            onFailure(key, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-    public void sendMessage(String message) {
-        log.info("Sending message");
-        kafkaTemplate.send(TOPIC, message);
+    private void onFailure(String key, Throwable ex) {
+        sendErrors.increment();
+        log.debug("Failed to publish event for item {}", key, ex);
     }
 }
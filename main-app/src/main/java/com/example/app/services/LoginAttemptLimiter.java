@@ -0,0 +1,29 @@
+package com.example.app.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window attempt counter per key: the window opens with the key's first attempt and the counter is
+ * dropped when it expires, so idle keys cost nothing.
+ */
+class LoginAttemptLimiter {
+
+    private final int maxAttempts;
+    private final Cache<String, AtomicInteger> attempts;
+
+    LoginAttemptLimiter(int maxAttempts, Duration window) {
+        this.maxAttempts = maxAttempts;
+        this.attempts = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    boolean tryAcquire(String key) {
+        return attempts.get(key, k -> new AtomicInteger()).incrementAndGet() <= maxAttempts;
+    }
+}
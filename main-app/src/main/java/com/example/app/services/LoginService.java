@@ -0,0 +1,180 @@
+package com.example.app.services;
+
+import com.example.app.config.LoginProperties;
+import com.example.app.exceptions.LoginOverloadedException;
+import com.example.app.exceptions.LoginRateLimitedException;
+import com.example.app.exceptions.UsernameNotFoundException;
+import com.example.app.security.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues JWTs for username/password logins without letting bcrypt take over the request threads.
+ * <p>
+ * Password checks run on a small fixed pool with a bounded queue; when it is full the login is refused at once
+ * instead of queueing behind seconds of hashing. Each username and client address may only start a limited
+ * number of checks per window. A successful check is remembered in the "credentials" cache under an HMAC of the
+ * username, password and stored hash, keyed with a secret that never leaves the process, so repeat logins skip
+ * bcrypt and a password change invalidates the entry by itself.
+ */
+@Service
+public class LoginService {
+
+    /**
+     * Checked when the username does not exist, so unknown users cost as much as wrong passwords (cost 12,
+     * like the seeded users) and response times do not reveal which usernames exist.
+     */
+    private static final String UNKNOWN_USER_HASH = "$2a$12$cV92m78Rd0kT4K2AIajgve1UIdL5HkyVOoGRUCXR2bTFX6X1FKTP2";
+
+    private final UserDetailService userDetailService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final Cache credentials;
+    private final LoginProperties properties;
+    private final LoginAttemptLimiter userAttempts;
+    private final LoginAttemptLimiter ipAttempts;
+    private final ThreadPoolExecutor verifyPool;
+    private final ExecutorService verifyExecutor;
+    private final SecretKeySpec hmacKey;
+
+    private final Timer verifySucceeded;
+    private final Timer verifyFailed;
+    private final Counter cached;
+    private final Counter rateLimited;
+    private final Counter overloaded;
+
+    public LoginService(UserDetailService userDetailService,
+                        PasswordEncoder passwordEncoder,
+                        JwtUtil jwtUtil,
+                        CacheManager cacheManager,
+                        LoginProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.userDetailService = userDetailService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.credentials = cacheManager.getCache("credentials");
+        this.properties = properties;
+        this.userAttempts = new LoginAttemptLimiter(properties.maxAttemptsPerUser(), properties.attemptWindow());
+        this.ipAttempts = new LoginAttemptLimiter(properties.maxAttemptsPerIp(), properties.attemptWindow());
+
+        var threads = properties.effectiveVerifyThreads();
+        var threadFactory = new CustomizableThreadFactory("password-verify-");
+        threadFactory.setDaemon(true);
+        this.verifyPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.verifyExecutor = ExecutorServiceMetrics.monitor(meterRegistry, verifyPool, "password.verify");
+
+        var key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, "HmacSHA256");
+
+        this.verifySucceeded = verifyTimer(meterRegistry, "success");
+        this.verifyFailed = verifyTimer(meterRegistry, "failure");
+        this.cached = loginCounter(meterRegistry, "cached");
+        this.rateLimited = loginCounter(meterRegistry, "rate_limited");
+        this.overloaded = loginCounter(meterRegistry, "overloaded");
+    }
+
+    /**
+     * Completes with a token for valid credentials, or exceptionally with {@link BadCredentialsException},
+     * {@link LoginRateLimitedException} or {@link LoginOverloadedException}. Never blocks on bcrypt.
+     */
+    public CompletableFuture<String> login(String username, String password, String clientAddress) {
+        if (username == null || password == null)
+            return CompletableFuture.failedFuture(new BadCredentialsException("Incorrect username or password"));
+
+        var storedHash = storedHash(username);
+        var credentialsKey = storedHash == null ? null : credentialsKey(username, password, storedHash);
+        if (credentialsKey != null && credentials.get(credentialsKey) != null) {
+            cached.increment();
+            return CompletableFuture.completedFuture(jwtUtil.generateToken(username));
+        }
+
+        if (!userAttempts.tryAcquire(username) || !ipAttempts.tryAcquire(clientAddress)) {
+            rateLimited.increment();
+            return CompletableFuture.failedFuture(
+                    new LoginRateLimitedException("Too many login attempts", properties.attemptWindow()));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                var start = System.nanoTime();
+                var matches = passwordEncoder.matches(password, storedHash == null ? UNKNOWN_USER_HASH : storedHash);
+                (matches ? verifySucceeded : verifyFailed).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                if (!matches || storedHash == null)
+                    throw new BadCredentialsException("Incorrect username or password");
+
+                credentials.put(credentialsKey, Boolean.TRUE);
+                return jwtUtil.generateToken(username);
+            }, verifyExecutor);
+        } catch (RejectedExecutionException e) {
+            overloaded.increment();
+            return CompletableFuture.failedFuture(new LoginOverloadedException("Too many logins in progress"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        verifyPool.shutdownNow();
+    }
+
+    private String storedHash(String username) {
+        try {
+            return userDetailService.loadUserByUsername(username).getPassword();
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private ByteBuffer credentialsKey(String username, String password, String storedHash) {
+        try {
+            var mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return ByteBuffer.wrap(mac.doFinal(storedHash.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("password.verify.duration")
+                .description("Time spent in bcrypt per login")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("login.bypassed")
+                .description("Logins answered without a bcrypt check")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.app.services;
+
+import com.example.app.entities.OutboxEventEntity;
+import com.example.app.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * Moves outbox rows to Kafka: reads them in id order in batches of {@code item.outbox.relay.batch-size}, sends
+ * the whole batch before waiting for acknowledgements, and deletes the rows the broker acknowledged.
+ * <p>
+ * With {@code parallelism} above 1 the item-id buckets are split between that many workers, so each item is
+ * still relayed by one worker in order. When a send fails, the item's remaining rows in the batch stay in the
+ * outbox as well and are sent again, in order, on a later poll; delivery is at least once. Run one relay per
+ * database: replicas sharing a database must disable all but one with {@code item.outbox.relay.enabled}.
+ * <p>
+ * Polling runs on a thread of its own rather than the shared {@code @Scheduled} pool: draining a backlog and
+ * waiting up to {@code send-timeout} for the broker would otherwise hold back every other scheduled task.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "item.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration sendTimeout;
+    private final long pollInterval;
+    private final ScheduledExecutorService poller;
+    private final ExecutorService workers;
+
+    private final Counter relayed;
+    private final Timer delay;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaProducerService kafkaProducerService,
+                       MeterRegistry meterRegistry,
+                       @Value("${item.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${item.outbox.relay.parallelism:1}") int parallelism,
+                       @Value("${item.outbox.relay.send-timeout:30s}") Duration sendTimeout,
+                       @Value("${item.outbox.relay.poll-interval:100}") long pollInterval) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducerService = kafkaProducerService;
+        this.batchSize = batchSize;
+        this.parallelism = Math.min(Math.max(parallelism, 1), OutboxEventEntity.BUCKETS);
+        this.sendTimeout = sendTimeout;
+        this.pollInterval = pollInterval;
+        this.poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-poll-"));
+        this.workers = this.parallelism == 1
+                ? null
+                : Executors.newFixedThreadPool(this.parallelism, new CustomizableThreadFactory("outbox-relay-"));
+
+        this.relayed = Counter.builder("item.outbox.relayed")
+                .description("Outbox events acknowledged by Kafka and removed from the outbox")
+                .register(meterRegistry);
+        this.delay = Timer.builder("item.outbox.delay")
+                .description("Time from the item change to its event being acknowledged by Kafka")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void relay() {
+        if (workers == null) {
+            drain(0);
+            return;
+        }
+        CompletableFuture.allOf(IntStream.range(0, parallelism)
+                        .mapToObj(slice -> CompletableFuture.runAsync(() -> drain(slice), workers))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+        if (workers != null)
+            workers.shutdownNow();
+    }
+
+    /**
+     * An exception would cancel the fixed-delay schedule, so a failed poll is logged and retried on the next one.
+     */
+    private void poll() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay poll failed", e);
+        }
+    }
+
+    /**
+     * Relays full batches back to back while there is a backlog; stops at the first batch that is not fully
+     * delivered and leaves the retry to the next poll.
+     */
+    private void drain(int slice) {
+        List<OutboxEventEntity> batch;
+        do {
+            batch = workers == null
+                    ? outboxEventRepository.findAllByOrderByIdAsc(Limit.of(batchSize))
+                    : outboxEventRepository.findSlice(slice, parallelism, Limit.of(batchSize));
+        } while (!batch.isEmpty() && relayBatch(batch) && batch.size() == batchSize);
+    }
+
+    private boolean relayBatch(List<OutboxEventEntity> batch) {
+        var sends = new ArrayList<CompletableFuture<?>>(batch.size());
+        for (var row : batch) {
+            var send = kafkaProducerService.send(row.toEvent());
+            sends.add(send);
+            // failed before reaching the producer (e.g. no metadata within max.block.ms): the rest would too
+            if (send.isCompletedExceptionally())
+                break;
+        }
+        awaitAll(sends);
+
+        var failedItems = new HashSet<UUID>();
+        var delivered = new ArrayList<Long>(batch.size());
+        var now = System.currentTimeMillis();
+        for (int i = 0; i < batch.size(); i++) {
+            var row = batch.get(i);
+            var send = i < sends.size() ? sends.get(i) : null;
+            if (send == null || !send.isDone() || send.isCompletedExceptionally()) {
+                failedItems.add(row.getItemId());
+            } else if (!failedItems.contains(row.getItemId())) {
+                delivered.add(row.getId());
+                delay.record(Math.max(0, now - row.getTimestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(delivered);
+            relayed.increment(delivered.size());
+        }
+
+        if (!failedItems.isEmpty()) {
+            log.warn("Relayed {} of {} outbox events; events of {} items are kept for the next attempt",
+                    delivered.size(), batch.size(), failedItems.size());
+            return false;
+        }
+        return true;
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // per-send outcomes are inspected by the caller
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.services;
+
+import com.example.app.entities.OutboxEventEntity;
+import com.example.app.repositories.OutboxEventRepository;
+import com.example.events.ItemChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores every published {@link ItemChangeEvent} in the outbox as part of the transaction that changed the item,
+ * so the event exists if and only if the change committed. {@link OutboxRelay} takes it to Kafka from there.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onItemChanged(ItemChangeEvent event) {
+        outboxEventRepository.save(OutboxEventEntity.of(event));
+    }
+}
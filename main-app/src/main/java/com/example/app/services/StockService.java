@@ -0,0 +1,210 @@
+package com.example.app.services;
+
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.dto.ItemResponse;
+import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemEvents;
+import com.example.app.exceptions.InsufficientStockException;
+import com.example.app.exceptions.ItemNotFoundException;
+import com.example.app.exceptions.StockLimitExceededException;
+import com.example.app.repositories.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Stock reservations as atomic delta UPDATEs ({@code quantity = quantity - ? WHERE quantity >= ?}), so concurrent
+ * orders never lose updates.
+ * <p>
+ * Reservations go through a fixed set of lock stripes chosen by item id. Requests that arrive while a stripe is
+ * writing queue up, and the next thread to take the stripe lock writes every queued reservation of an item as
+ * one combined UPDATE (flat combining). On a hot item many small decrements become a single statement; if the
+ * combined amount does not fit the stock, the queued reservations are applied one by one in arrival order. A
+ * failed write (e.g. a lock timeout) is rethrown to every submitter whose reservation it carried.
+ */
+@Service
+public class StockService {
+
+    private static final String ITEM_BY_ID = "getItemById";
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache itemCache;
+    private final Stripe[] stripes;
+
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Counter writes;
+    private final Counter contended;
+    private final DistributionSummary combinedReservations;
+
+    public StockService(ItemRepository itemRepository,
+                        TransactionTemplate transactionTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        CacheManager cacheManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${item.stock.stripes:64}") int stripeCount) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.itemCache = cacheManager.getCache("item");
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new Stripe();
+
+        this.reserved = Counter.builder("item.stock.reservations").tag("result", "reserved").register(meterRegistry);
+        this.rejected = Counter.builder("item.stock.reservations").tag("result", "rejected").register(meterRegistry);
+        this.writes = Counter.builder("item.stock.writes")
+                .description("Stock UPDATE statements issued")
+                .register(meterRegistry);
+        this.contended = Counter.builder("item.stock.contended")
+                .description("Reservations that had to wait for another write on their stripe")
+                .register(meterRegistry);
+        this.combinedReservations = DistributionSummary.builder("item.stock.combined")
+                .description("Reservations written by one combined UPDATE")
+                .register(meterRegistry);
+    }
+
+    public void reserve(UUID itemId, int quantity) {
+        var reservation = new Reservation(itemId, quantity);
+        stripes[Math.floorMod(itemId.hashCode(), stripes.length)].submit(reservation);
+
+        if (reservation.failure != null)
+            throw reservation.failure;
+        if (reservation.reserved) {
+            reserved.increment();
+            return;
+        }
+
+        rejected.increment();
+        if (!itemRepository.existsById(itemId))
+            throw new ItemNotFoundException();
+        throw new InsufficientStockException("Not enough stock of item " + itemId + " to reserve " + quantity);
+    }
+
+    public void release(UUID itemId, int quantity) {
+        if (write(itemId, () -> itemRepository.releaseStock(itemId, quantity)).isPresent())
+            return;
+
+        if (!itemRepository.existsById(itemId))
+            throw new ItemNotFoundException();
+        throw new StockLimitExceededException("Stock of item " + itemId + " cannot take " + quantity + " more");
+    }
+
+    private Optional<ItemEntity> write(UUID itemId, Supplier<Optional<ItemEntity>> update) {
+        writes.increment();
+        var updated = transactionTemplate.execute(status -> {
+            var item = update.get();
+            item.ifPresent(row -> eventPublisher.publishEvent(ItemEvents.updated(row)));
+            return item;
+        });
+        updated.ifPresent(row -> itemCache.put(CustomKeyGenerator.key(ITEM_BY_ID, itemId), ItemResponse.of(row)));
+        return updated;
+    }
+
+    private boolean reserveNow(UUID itemId, int amount) {
+        return write(itemId, () -> itemRepository.reserveStock(itemId, amount)).isPresent();
+    }
+
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentLinkedQueue<Reservation> pending = new ConcurrentLinkedQueue<>();
+
+        void submit(Reservation reservation) {
+            pending.add(reservation);
+            if (lock.isLocked())
+                contended.increment();
+
+            lock.lock();
+            try {
+                if (!reservation.done)
+                    drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            var byItem = new LinkedHashMap<UUID, List<Reservation>>();
+            Reservation next;
+            while ((next = pending.poll()) != null)
+                byItem.computeIfAbsent(next.itemId, id -> new ArrayList<>()).add(next);
+
+            byItem.forEach((itemId, reservations) -> {
+                combinedReservations.record(reservations.size());
+                try {
+                    reserveAll(itemId, reservations);
+                } catch (RuntimeException e) {
+                    // polled reservations have no one else to write them, their submitters get the failure
+                    reservations.stream()
+                            .filter(reservation -> !reservation.done)
+                            .forEach(reservation -> reservation.fail(e));
+                }
+            });
+        }
+
+        /**
+         * One UPDATE for the whole group when its total fits the stock (and an int), otherwise one per
+         * reservation in arrival order.
+         */
+        private void reserveAll(UUID itemId, List<Reservation> reservations) {
+            if (reservations.size() == 1) {
+                var reservation = reservations.get(0);
+                reservation.complete(reserveNow(itemId, reservation.quantity));
+                return;
+            }
+
+            long total = reservations.stream().mapToLong(reservation -> reservation.quantity).sum();
+            if (total <= Integer.MAX_VALUE && reserveNow(itemId, (int) total)) {
+                reservations.forEach(reservation -> reservation.complete(true));
+                return;
+            }
+            for (var reservation : reservations)
+                reservation.complete(reserveNow(itemId, reservation.quantity));
+        }
+    }
+
+    /**
+     * Completed by whichever thread writes it, always under the stripe lock the submitter then acquires.
+     */
+    private static final class Reservation {
+
+        private final UUID itemId;
+        private final int quantity;
+        private boolean done;
+        private boolean reserved;
+        private RuntimeException failure;
+
+        Reservation(UUID itemId, int quantity) {
+            this.itemId = itemId;
+            this.quantity = quantity;
+        }
+
+        void complete(boolean reserved) {
+            this.reserved = reserved;
+            this.done = true;
+        }
+
+        void fail(RuntimeException failure) {
+            this.failure = failure;
+            this.done = true;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.app.services;
 
+import com.example.app.entities.UserEntity;
 import com.example.app.exceptions.UsernameNotFoundException;
 import com.example.app.repositories.UserRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -18,15 +21,41 @@ public class UserDetailService implements UserDetailsService {
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
+        var user = findUser(username);
+        return toUserDetails(user, user.getPassword());
+    }
+
+    /**
+     * Principal for an already-authenticated request (a valid JWT). Served from the "principal" cache and
+     * carries no password hash, so it is safe to keep in memory; use {@link #evictPrincipal(String)} when a
+     * user's roles or password change.
+     */
+    @Transactional
+    @Cacheable(value = "principal", key = "#username")
+    public UserDetails loadPrincipal(String username) throws UsernameNotFoundException {
+        return toUserDetails(findUser(username), "");
+    }
+
+    @CacheEvict(value = "principal", key = "#username")
+    public void evictPrincipal(String username) {
+    }
+
+    @CacheEvict(value = "principal", allEntries = true)
+    public void evictAllPrincipals() {
+    }
+
+    private UserEntity findUser(String username) {
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    }
 
+    private UserDetails toUserDetails(UserEntity user, String password) {
         var authorities = user.getRoles().stream()
                 .map(SimpleGrantedAuthority::new)
                 .toList();
 
         return org.springframework.security.core.userdetails.User.withUsername(user.getUsername())
-                .password(user.getPassword())
+                .password(password)
                 .authorities(authorities)
                 .accountLocked(false)
                 .build();
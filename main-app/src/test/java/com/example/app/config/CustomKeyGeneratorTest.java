@@ -0,0 +1,84 @@
+package com.example.app.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CustomKeyGeneratorTest {
+
+    private static final UUID ID = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+    private final CustomKeyGenerator keyGenerator = new CustomKeyGenerator();
+
+    @Test
+    void noArgMethod_reusesOneKeyPerMethod() throws Exception {
+        var first = keyGenerator.generate(this, method("findAll"));
+        var second = keyGenerator.generate(this, method("findAll"));
+
+        assertThat(first)
+                .isSameAs(second);
+
+        assertThat(first)
+                .isNotEqualTo(keyGenerator.generate(this, method("count")));
+    }
+
+    @Test
+    void oneArgMethod_equalsTheStaticKey() throws Exception {
+        var generated = keyGenerator.generate(this, method("getItemById", UUID.class), ID);
+
+        assertThat(generated)
+                .isEqualTo(CustomKeyGenerator.key("getItemById", ID))
+                .hasSameHashCodeAs(CustomKeyGenerator.key("getItemById", ID))
+                .isEqualTo(keyGenerator.generate(this, method("getItemById", UUID.class), UUID.fromString(ID.toString())));
+
+        assertThat(generated)
+                .isNotEqualTo(keyGenerator.generate(this, method("getItemById", UUID.class), UUID.randomUUID()))
+                .isNotEqualTo(keyGenerator.generate(this, method("deleteById", UUID.class), ID));
+    }
+
+    @Test
+    void oneArgMethod_acceptsNull() throws Exception {
+        var getAll = method("getAll", UUID.class);
+
+        assertThat(keyGenerator.generate(this, getAll, (Object) null))
+                .isEqualTo(keyGenerator.generate(this, getAll, (Object) null))
+                .isNotEqualTo(keyGenerator.generate(this, getAll, ID));
+    }
+
+    @Test
+    void multiArgMethod_keysOnEveryArgument() throws Exception {
+        var getAll = method("getAll", UUID.class, int.class);
+
+        assertThat(keyGenerator.generate(this, getAll, ID, 100))
+                .isEqualTo(keyGenerator.generate(this, getAll, ID, 100))
+                .hasSameHashCodeAs(keyGenerator.generate(this, getAll, ID, 100));
+
+        assertThat(keyGenerator.generate(this, getAll, ID, 100))
+                .isNotEqualTo(keyGenerator.generate(this, getAll, ID, 50))
+                .isNotEqualTo(keyGenerator.generate(this, getAll, null, 100))
+                .isNotEqualTo(keyGenerator.generate(this, method("getAll", UUID.class), ID));
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Methods.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @SuppressWarnings("unused")
+    private interface Methods {
+
+        Object findAll();
+
+        long count();
+
+        Object getItemById(UUID id);
+
+        void deleteById(UUID id);
+
+        Object getAll(UUID cursor);
+
+        Object getAll(UUID cursor, int limit);
+    }
+}
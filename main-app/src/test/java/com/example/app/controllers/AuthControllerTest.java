@@ -0,0 +1,50 @@
+package com.example.app.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Goes through the embedded Tomcat rather than MockMvc, since X-Forwarded-For is resolved by its RemoteIpValve.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "item.outbox.relay.enabled=false",
+        "auth.login.max-attempts-per-ip=2",
+        "auth.login.max-attempts-per-user=100"
+})
+class AuthControllerTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void login_behindTrustedProxy_limitsEachForwardedClientSeparately() throws Exception {
+        assertThat(login("203.0.113.7")).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(login("203.0.113.7")).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(login("203.0.113.7")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        assertThat(login("203.0.113.8")).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(login("198.51.100.1, 203.0.113.9")).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private int login(String forwardedFor) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/authenticate"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"username": "admin", "password": "wrong"}
+                        """))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
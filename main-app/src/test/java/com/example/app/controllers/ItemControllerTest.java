@@ -1,9 +1,14 @@
 package com.example.app.controllers;
 
+import com.example.app.dto.ItemLookupResult;
+import com.example.app.dto.ItemPage;
+import com.example.app.dto.ItemResponse;
 import com.example.app.entities.ItemEntity;
 import com.example.app.exceptions.ItemNotFoundException;
+import com.example.app.exceptions.ItemVersionConflictException;
 import com.example.app.services.ItemService;
 import com.example.app.testFixtures.ItemFixture;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -20,17 +26,24 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "item.outbox.relay.enabled=false")
 public class ItemControllerTest {
 
     private MockMvc mockMvc;
@@ -55,7 +68,7 @@ public class ItemControllerTest {
     void getItemById_shouldReturnItem_whenItExists() throws Exception {
 
         when(itemService.getItemById(UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696")))
-                .thenReturn(ItemFixture.oneItem());
+                .thenReturn(ItemFixture.oneItemResponse());
 
         mockMvc.perform(get("/api/v1/item/4c22732f-f4f7-436d-9620-c8bcf9fdc696"))
                 .andExpect(status().isOk())
@@ -73,6 +86,22 @@ public class ItemControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser
+    void getAll_shouldReturnPageWithNextCursor() throws Exception {
+        var cursor = UUID.fromString("003a83d8-2db7-4152-a243-95f484ff0c59");
+
+        when(itemService.getAll(cursor, 1))
+                .thenReturn(new ItemPage(List.of(ItemFixture.oneItemResponse()), ItemFixture.oneItem().getId()));
+
+        mockMvc.perform(get("/api/v1/item")
+                        .param("cursor", cursor.toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("4c22732f-f4f7-436d-9620-c8bcf9fdc696"))
+                .andExpect(jsonPath("$.nextCursor").value("4c22732f-f4f7-436d-9620-c8bcf9fdc696"));
+    }
+
     @Test
     @WithMockUser
     void saveItem_shouldReturnItem_whenItemHasValidBody() throws Exception {
@@ -87,7 +116,7 @@ public class ItemControllerTest {
                 """;
 
         when(itemService.saveOneItem(ItemFixture.oneItemValidToSave()))
-                .thenReturn(ItemFixture.oneItem());
+                .thenReturn(ItemFixture.oneItemResponse());
 
         mockMvc.perform(post("/api/v1/item")
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -107,7 +136,7 @@ public class ItemControllerTest {
                 """;
 
         when(itemService.saveOneItem(ItemFixture.oneItemValidToSave()))
-                .thenReturn(ItemFixture.oneItem());
+                .thenReturn(ItemFixture.oneItemResponse());
 
         mockMvc.perform(post("/api/v1/item")
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -129,13 +158,13 @@ public class ItemControllerTest {
 
         var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
 
-        var itemUpdated = ItemEntity.builder()
+        var itemUpdated = ItemResponse.of(ItemEntity.builder()
                 .id(UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696"))
                 .name("test")
                 .price(BigDecimal.valueOf(12.00))
                 .quantity(1)
                 .description("test")
-                .build();
+                .build());
 
         when(itemService.updateItem(eq(uuid), any()))
                 .thenReturn(itemUpdated);
@@ -173,7 +202,7 @@ public class ItemControllerTest {
                 """;
 
         when(itemService.saveAllItems(anyList()))
-                .thenReturn(ItemFixture.listOfItems());
+                .thenReturn(ItemFixture.listOfItemResponses());
 
         mockMvc.perform(post("/api/v1/item/saveAll")
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -181,4 +210,236 @@ public class ItemControllerTest {
                 .andExpect(status().isCreated());
     }
 
-}
\ No newline at end of file
+    @Test
+    @WithMockUser
+    void bulkIngest_shouldReportRejectedItems_whenNdjsonHasInvalidLines() throws Exception {
+        var body = """
+                {"name": "test", "price": 10.91, "quantity": 2, "category": "test"}
+                {"name": "test", "description": "missing price and quantity"}
+                {"name": "test", "price": 1.00, "quantity": 5}
+                """;
+
+        mockMvc.perform(post("/api/v1/item/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.failures[0].fromIndex").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void lookup_shouldReturnItemsAndNotFoundIds() throws Exception {
+        var missing = UUID.fromString("0b8f2f7e-4b51-4f3e-9f0e-8a1f5d2c9e11");
+        when(itemService.lookup(anyList()))
+                .thenReturn(new ItemLookupResult(List.of(ItemFixture.oneItemResponse()), Set.of(missing)));
+
+        mockMvc.perform(post("/api/v1/item/lookup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("[\"4c22732f-f4f7-436d-9620-c8bcf9fdc696\", \"" + missing + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("4c22732f-f4f7-436d-9620-c8bcf9fdc696"))
+                .andExpect(jsonPath("$.notFound[0]").value(missing.toString()));
+    }
+
+    @Test
+    @WithMockUser
+    void lookup_shouldReturn400_whenNoIdsGiven() throws Exception {
+        mockMvc.perform(post("/api/v1/item/lookup")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void search_shouldAcceptLowerCaseSortAndDirection() throws Exception {
+        mockMvc.perform(get("/api/v1/item/search?category=none&sort=price&direction=desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @WithMockUser
+    void search_shouldReturn400_whenSortIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/item/search?sort=quantity"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void getItemById_shouldReturn304_whenETagStillMatches() throws Exception {
+        var entity = ItemFixture.oneItem();
+        entity.setVersion(3L);
+        var item = ItemResponse.of(entity);
+        when(itemService.getItemById(item.id()))
+                .thenReturn(item);
+
+        mockMvc.perform(get("/api/v1/item/" + item.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        mockMvc.perform(get("/api/v1/item/" + item.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void getItemById_shouldReturn200_whenETagIsFromTheJsonRepresentation() throws Exception {
+        var entity = ItemFixture.oneItem();
+        entity.setVersion(3L);
+        var item = ItemResponse.of(entity);
+        when(itemService.getItemById(item.id()))
+                .thenReturn(item);
+
+        var jsonETag = mockMvc.perform(get("/api/v1/item/" + item.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/item/" + item.id())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3+cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+        mockMvc.perform(get("/api/v1/item/" + item.id())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3+cbor\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/item/" + item.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3+cbor\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @WithMockUser
+    void getAll_shouldReturn200_whenETagIsFromTheJsonRepresentation() throws Exception {
+        when(itemService.getAll(null, ItemService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new ItemPage(ItemFixture.listOfItemResponses(), null));
+
+        var jsonETag = mockMvc.perform(get("/api/v1/item"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/item")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    @WithMockUser
+    void deleteItem_shouldAcceptCborETagInIfMatch() throws Exception {
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+        mockMvc.perform(delete("/api/v1/item/" + uuid).header(HttpHeaders.IF_MATCH, "\"5+cbor\""))
+                .andExpect(status().isOk());
+
+        verify(itemService).deleteById(uuid, 5L);
+    }
+
+    @Test
+    @WithMockUser
+    void getAll_shouldReturn304_whenPageDidNotChange() throws Exception {
+        when(itemService.getAll(null, ItemService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new ItemPage(ItemFixture.listOfItemResponses(), null));
+
+        var etag = mockMvc.perform(get("/api/v1/item"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/item").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser
+    void updateItem_shouldReturn412_whenIfMatchIsStale() throws Exception {
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+        when(itemService.updateItem(eq(uuid), argThat(dto -> dto.getVersion() == 2L)))
+                .thenThrow(new ItemVersionConflictException("Item " + uuid + " is no longer at version 2"));
+
+        mockMvc.perform(put("/api/v1/item/" + uuid)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"quantity\": 1}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/item/" + uuid)
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"quantity\": 1}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteItem_shouldPassIfMatchVersionToService() throws Exception {
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+        mockMvc.perform(delete("/api/v1/item/" + uuid).header(HttpHeaders.IF_MATCH, "\"5\""))
+                .andExpect(status().isOk());
+
+        verify(itemService).deleteById(uuid, 5L);
+    }
+
+    @Test
+    @WithMockUser
+    void getItemById_shouldAnswerCbor_whenAskedFor() throws Exception {
+        when(itemService.getItemById(UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696")))
+                .thenReturn(ItemFixture.oneItemResponse());
+
+        var body = mockMvc.perform(get("/api/v1/item/4c22732f-f4f7-436d-9620-c8bcf9fdc696")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var item = new CBORMapper().readValue(body, ItemResponse.class);
+        assertThat(item).isEqualTo(ItemFixture.oneItemResponse());
+    }
+
+    @Test
+    @WithMockUser
+    void saveItem_shouldReplayTheCreatedItem_whenRetriedWithSameIdempotencyKey() throws Exception {
+        var body = """
+                {
+                    "name": "Smartphone xyz",
+                    "description": "Smartphone",
+                    "price": 12.33,
+                    "quantity": 2,
+                    "category": "Electronic"
+                }
+                """;
+        var idempotencyKey = UUID.randomUUID().toString();
+
+        when(itemService.saveOneItem(ItemFixture.oneItemValidToSave()))
+                .thenReturn(ItemFixture.oneItemResponse());
+
+        for (int attempt = 0; attempt < 2; attempt++)
+            mockMvc.perform(post("/api/v1/item")
+                            .header(ItemController.IDEMPOTENCY_KEY, idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value("4c22732f-f4f7-436d-9620-c8bcf9fdc696"));
+
+        verify(itemService, times(1)).saveOneItem(any());
+
+        mockMvc.perform(post("/api/v1/item")
+                        .header(ItemController.IDEMPOTENCY_KEY, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body.replace("12.33", "15.00")))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.example.app.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "aWqjCUl12Dis6tsFc0zB4AF2bphXOSrU3OVBIZbUcw5ZuidX2wAzBLc5g7iiHTcI";
+    private static final String OTHER_SECRET = "c2VjcmV0LWZvci1hbm90aGVyLWlzc3Vlci13aXRoLWVub3VnaC1ieXRlcy0xMjM0";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void verify_generatedToken_returnsSubjectAndExpiration() {
+        var verified = jwtUtil.verify(jwtUtil.generateToken("admin"));
+
+        assertThat(verified.username())
+                .isEqualTo("admin");
+
+        assertThat(verified.isExpired())
+                .isFalse();
+    }
+
+    @Test
+    void verify_sameTokenTwice_isServedFromTheCache() {
+        var token = jwtUtil.generateToken("admin");
+
+        var first = jwtUtil.verify(token);
+
+        assertThat(jwtUtil.verify(token))
+                .isSameAs(first);
+
+        assertThat(jwtUtil.verify(sign(SECRET, "admin", new Date(System.currentTimeMillis() + 60_000))))
+                .isNotSameAs(first)
+                .extracting(VerifiedToken::username)
+                .isEqualTo("admin");
+    }
+
+    @Test
+    void verify_expiredToken_isRejected() {
+        var token = sign(SECRET, "admin", new Date(System.currentTimeMillis() - 60_000));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_badSignature_isRejected() {
+        var token = sign(OTHER_SECRET, "admin", new Date(System.currentTimeMillis() + 60_000));
+
+        assertThrows(SignatureException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_tokenWithoutExpiration_isRejected() {
+        var token = sign(SECRET, "admin", null);
+
+        assertThrows(MissingClaimException.class, () -> jwtUtil.verify(token));
+        assertThrows(MissingClaimException.class, () -> jwtUtil.verify(token));
+    }
+
+    private static String sign(String secret, String subject, Date expiration) {
+        var key = new SecretKeySpec(Base64.getDecoder().decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(expiration)
+                .signWith(SignatureAlgorithm.HS256, key)
+                .compact();
+    }
+}
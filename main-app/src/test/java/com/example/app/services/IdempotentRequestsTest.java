@@ -0,0 +1,160 @@
+package com.example.app.services;
+
+import com.example.app.config.CacheConfig;
+import com.example.app.config.CacheSpecProperties;
+import com.example.app.exceptions.IdempotencyKeyReusedException;
+import com.example.app.exceptions.IdempotentRequestInProgressException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IdempotentRequestsTest {
+
+    private final AtomicInteger writes = new AtomicInteger();
+
+    private IdempotentRequests idempotentRequests;
+
+    @BeforeEach
+    void setup() {
+        var cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("idempotency")).thenReturn(new ConcurrentMapCache("idempotency"));
+        idempotentRequests = idempotentRequests(cacheManager, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void execute_sameKey_replaysTheFirstResult() {
+        var first = idempotentRequests.execute("save", "admin", "key-1", "body", this::write);
+        var retry = idempotentRequests.execute("save", "admin", "key-1", "body", this::write);
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void execute_noKeyOrOtherUser_writesAgain() {
+        idempotentRequests.execute("save", "admin", null, "body", this::write);
+        idempotentRequests.execute("save", "admin", null, "body", this::write);
+        idempotentRequests.execute("save", "admin", "key-1", "body", this::write);
+        idempotentRequests.execute("save", "other", "key-1", "body", this::write);
+
+        assertThat(writes).hasValue(4);
+    }
+
+    @Test
+    void execute_sameKeyForAnotherRequest_isRejected() {
+        idempotentRequests.execute("save", "admin", "key-1", "body", this::write);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotentRequests.execute("save", "admin", "key-1", "other body", this::write));
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void execute_sameKeyForARequestWithTheSameHashCode_isRejected() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        idempotentRequests.execute("save", "admin", "key-1", Map.of("name", "Aa"), this::write);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotentRequests.execute("save", "admin", "key-1", Map.of("name", "BB"), this::write));
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void execute_requestHeavierThanTheCache_isNotRemembered() {
+        var cacheManager = new CacheConfig().cacheManager(new CacheSpecProperties(Map.of("idempotency", "maximumWeight=100")));
+        var cache = (CaffeineCache) cacheManager.getCache("idempotency");
+        idempotentRequests = idempotentRequests(cacheManager, Duration.ofSeconds(5));
+
+        idempotentRequests.execute("save", "admin", "key-1", "small", this::write);
+        idempotentRequests.execute("save", "admin", "key-2", "x".repeat(200), this::write);
+        cache.getNativeCache().cleanUp();
+
+        assertThat(idempotentRequests.execute("save", "admin", "key-1", "small", this::write)).isEqualTo("item 1");
+        assertThat(idempotentRequests.execute("save", "admin", "key-2", "x".repeat(200), this::write)).isEqualTo("item 3");
+    }
+
+    @Test
+    void execute_failedWrite_isForgotten() {
+        assertThrows(IllegalStateException.class, () -> idempotentRequests.execute("save", "admin", "key-1", "body",
+                () -> {
+                    throw new IllegalStateException("database down");
+                }));
+
+        assertThat(idempotentRequests.execute("save", "admin", "key-1", "body", this::write)).isEqualTo("item 1");
+    }
+
+    @Test
+    void execute_duplicateWhileInFlight_waitsForTheFirstResult() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(() -> idempotentRequests.execute("save", "admin", "key-1", "body", () -> {
+            started.countDown();
+            await(release);
+            return write();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var duplicate = CompletableFuture.supplyAsync(() -> idempotentRequests.execute("save", "admin", "key-1", "body", this::write));
+
+        assertThat(duplicate).isNotCompleted();
+        release.countDown();
+
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("item 1");
+        assertThat(duplicate).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("item 1");
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void execute_duplicateWhileInFlight_givesUpAfterTheWaitTimeout() throws Exception {
+        var cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("idempotency")).thenReturn(new ConcurrentMapCache("idempotency"));
+        idempotentRequests = idempotentRequests(cacheManager, Duration.ofMillis(50));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(() -> idempotentRequests.execute("save", "admin", "key-1", "body", () -> {
+            started.countDown();
+            await(release);
+            return write();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThrows(IdempotentRequestInProgressException.class,
+                () -> idempotentRequests.execute("save", "admin", "key-1", "body", this::write));
+        release.countDown();
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("item 1");
+        assertThat(writes).hasValue(1);
+    }
+
+    private static IdempotentRequests idempotentRequests(CacheManager cacheManager, Duration waitTimeout) {
+        return new IdempotentRequests(cacheManager, new SimpleMeterRegistry(), new ObjectMapper(), waitTimeout);
+    }
+
+    private String write() {
+        return "item " + writes.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.app.services;
+
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.dto.ItemUpdateDto;
+import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemInvalidation;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(kraft = true)
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "item.outbox.relay.enabled=false",
+        "item.cache.invalidation.enabled=true"
+})
+class ItemCacheInvalidationTest {
+
+    private static final String TOPIC = "item_invalidation";
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemCacheInvalidation itemCacheInvalidation;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @BeforeEach
+    void waitForListener() {
+        listenerRegistry.getListenerContainers()
+                .forEach(container -> ContainerTestUtils.waitForAssignment(container, 1));
+    }
+
+    @Test
+    void committedChanges_areSentFromThisReplica() {
+        try (var consumer = consumer()) {
+            var first = itemService.saveOneItem(item("First"));
+            var second = itemService.saveOneItem(item("Second"));
+            itemService.updateItem(first.id(), ItemUpdateDto.builder().quantity(3).build());
+
+            var sent = new HashSet<UUID>();
+            var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (sent.size() < 2 && System.nanoTime() < deadline) {
+                for (var record : consumer.poll(Duration.ofMillis(200))) {
+                    var invalidation = ItemInvalidation.fromBytes(record.value());
+                    assertThat(invalidation.origin()).isEqualTo(itemCacheInvalidation.getReplicaId());
+                    sent.addAll(invalidation.itemIds());
+                }
+            }
+
+            assertThat(sent).containsExactlyInAnyOrder(first.id(), second.id());
+        }
+    }
+
+    @Test
+    void invalidationFromAnotherReplica_evictsTheLocalEntry_butOwnInvalidationDoesNot() throws Exception {
+        var mine = itemService.saveOneItem(item("Mine"));
+        var theirs = itemService.saveOneItem(item("Theirs"));
+        var itemCache = cacheManager.getCache("item");
+        assertThat(itemCache.get(key(mine.id()))).isNotNull();
+        assertThat(itemCache.get(key(theirs.id()))).isNotNull();
+
+        try (var producer = new KafkaProducer<>(KafkaTestUtils.producerProps(broker),
+                new StringSerializer(), new ByteArraySerializer())) {
+            var own = new ItemInvalidation(itemCacheInvalidation.getReplicaId(), System.currentTimeMillis(),
+                    List.of(mine.id()));
+            var other = new ItemInvalidation(UUID.randomUUID(), System.currentTimeMillis(), List.of(theirs.id()));
+            producer.send(new ProducerRecord<>(TOPIC, own.origin().toString(), own.toBytes())).get();
+            producer.send(new ProducerRecord<>(TOPIC, other.origin().toString(), other.toBytes())).get();
+        }
+
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (itemCache.get(key(theirs.id())) != null && System.nanoTime() < deadline)
+            Thread.sleep(50);
+
+        assertThat(itemCache.get(key(theirs.id()))).isNull();
+        assertThat(itemCache.get(key(mine.id()))).isNotNull();
+    }
+
+    @Test
+    void listener_readsWithoutAConsumerGroup() throws Exception {
+        try (var admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            var groups = admin.listConsumerGroups().all().get();
+
+            assertThat(groups)
+                    .extracting(ConsumerGroupListing::groupId)
+                    .noneMatch(groupId -> groupId.startsWith("item-cache"))
+                    .doesNotContain("java_item");
+        }
+    }
+
+    private KafkaConsumer<String, byte[]> consumer() {
+        var props = KafkaTestUtils.consumerProps("invalidation-test-" + UUID.randomUUID(), "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        var consumer = new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+        consumer.subscribe(List.of(TOPIC));
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (consumer.assignment().isEmpty() && System.nanoTime() < deadline)
+            consumer.poll(Duration.ofMillis(100));
+        return consumer;
+    }
+
+    private static CustomKeyGenerator.CacheKey key(UUID id) {
+        return CustomKeyGenerator.key("getItemById", id);
+    }
+
+    private static ItemEntity item(String name) {
+        return ItemEntity.builder()
+                .name(name)
+                .price(BigDecimal.ONE)
+                .quantity(1)
+                .category("test")
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.app.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class ItemIngestServiceTest {
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ItemIngestService itemIngestService = new ItemIngestService(new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), mock(EntityManager.class), transactionTemplate,
+            mock(ApplicationEventPublisher.class), 500);
+
+    @Test
+    void ingest_failedChunk_reportsAFixedReason() throws Exception {
+        doThrow(new DataIntegrityViolationException("could not execute statement [insert into item_entity "
+                + "(category,description,name,price,quantity,version,id) values (?,?,?,?,?,?,?)]"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        var body = """
+                {"name": "test", "price": 10.91, "quantity": 2}
+                {"name": "test", "description": "missing price and quantity"}
+                """;
+
+        var result = itemIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.accepted()).isZero();
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.failures().get(0).reason())
+                .contains("price", "quantity");
+        assertThat(result.failures().get(1).reason())
+                .isEqualTo(ItemIngestService.STORE_FAILED);
+    }
+}
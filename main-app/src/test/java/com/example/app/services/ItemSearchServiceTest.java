@@ -0,0 +1,93 @@
+package com.example.app.services;
+
+import com.example.app.dto.ItemResponse;
+import com.example.app.dto.ItemSearchCriteria;
+import com.example.app.dto.ItemSearchCriteria.ItemSortField;
+import com.example.app.entities.ItemEntity;
+import com.example.app.exceptions.InvalidSearchRequestException;
+import com.example.app.repositories.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "item.outbox.relay.enabled=false")
+class ItemSearchServiceTest {
+
+    @Autowired
+    private ItemSearchService itemSearchService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @MockBean
+    private KafkaProducerService kafkaProducerService;
+
+    @BeforeEach
+    void seed() {
+        itemRepository.deleteAllInBatch();
+        itemRepository.saveAll(IntStream.range(0, 50)
+                .mapToObj(i -> ItemEntity.builder()
+                        .name((i % 2 == 0 ? "Phone " : "Laptop ") + i)
+                        .price(BigDecimal.valueOf(i % 10))
+                        .quantity(1)
+                        .category(i % 3 == 0 ? "electronics" : "office")
+                        .build())
+                .toList());
+    }
+
+    @Test
+    void search_byPriceDescending_pagesThroughEveryMatchInOrder() {
+        var seen = new ArrayList<ItemResponse>();
+        String cursor = null;
+        do {
+            var page = itemSearchService.search(criteria("office", null, cursor, ItemSortField.PRICE, Sort.Direction.DESC, 7));
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(33)
+                .allMatch(item -> item.category().equals("office"))
+                .isSortedAccordingTo(Comparator.comparing(ItemResponse::price).reversed());
+        assertThat(seen).extracting(ItemResponse::id).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void search_byNamePrefixAndPriceRange_filtersAndSortsByName() {
+        var criteria = new ItemSearchCriteria(null, BigDecimal.valueOf(2), BigDecimal.valueOf(4), "Phone",
+                ItemSortField.NAME, Sort.Direction.ASC, null, 100);
+
+        var page = itemSearchService.search(criteria);
+
+        assertThat(page.items()).extracting(ItemResponse::name)
+                .containsExactly("Phone 12", "Phone 14", "Phone 2", "Phone 22", "Phone 24", "Phone 32",
+                        "Phone 34", "Phone 4", "Phone 42", "Phone 44");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void search_cursorOfAnotherSort_throwException() {
+        var cursor = itemSearchService.search(criteria(null, null, null, ItemSortField.PRICE, Sort.Direction.ASC, 1))
+                .nextCursor();
+
+        assertThrows(InvalidSearchRequestException.class,
+                () -> itemSearchService.search(criteria(null, null, cursor, ItemSortField.NAME, Sort.Direction.ASC, 1)));
+        assertThrows(InvalidSearchRequestException.class,
+                () -> itemSearchService.search(criteria(null, null, "not a cursor", ItemSortField.ID, Sort.Direction.ASC, 1)));
+    }
+
+    private static ItemSearchCriteria criteria(String category, String namePrefix, String cursor,
+                                               ItemSortField sort, Sort.Direction direction, int limit) {
+        return new ItemSearchCriteria(category, null, null, namePrefix, sort, direction, cursor, limit);
+    }
+}
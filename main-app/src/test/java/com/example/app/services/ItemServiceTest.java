@@ -1,25 +1,38 @@
 package com.example.app.services;
 
+import com.example.app.config.CustomKeyGenerator;
+import com.example.app.dto.ItemResponse;
 import com.example.app.dto.ItemUpdateDto;
+import com.example.app.entities.ItemEntity;
 import com.example.app.exceptions.ItemNotFoundException;
+import com.example.app.exceptions.ItemVersionConflictException;
 import com.example.app.repositories.ItemRepository;
 import com.example.app.testFixtures.ItemFixture;
+import com.example.events.ItemChangeEvent;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
 public class ItemServiceTest {
@@ -31,24 +44,30 @@ public class ItemServiceTest {
     private ItemService itemService;
 
     @Mock
-    private KafkaProducerService kafkaProducerService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManager entityManager;
 
     @Test
     void getItemById_itemExist_returnItem() {
         var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
 
-        when(itemRepository.findById(uuid))
-                .thenReturn(Optional.of(ItemFixture.oneItem()));
+        when(itemRepository.findResponseById(uuid))
+                .thenReturn(Optional.of(ItemFixture.oneItemResponse()));
 
         var item = itemService.getItemById(uuid);
 
         assertThat(item)
                 .isNotNull();
 
-        assertThat(item.getId())
+        assertThat(item.id())
                 .isEqualTo(uuid);
 
-        assertThat(item.getName())
+        assertThat(item.name())
                 .isEqualTo("Smartphone xyz");
     }
 
@@ -56,7 +75,7 @@ public class ItemServiceTest {
     void getItemById_itemNotExist_throwException() {
         var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
 
-        when(itemRepository.findById(uuid))
+        when(itemRepository.findResponseById(uuid))
                 .thenReturn(Optional.empty());
 
         assertThrows(ItemNotFoundException.class, () -> {
@@ -65,14 +84,53 @@ public class ItemServiceTest {
     }
 
     @Test
-    void getAlLItems_listAllItems_listOfItems() {
-        when(itemRepository.findAll())
-                .thenReturn(ItemFixture.listOfItems());
+    void lookup_mixOfCachedAndStoredIds_fetchOnlyMissesAndReportNotFound() {
+        var cached = ItemFixture.oneItemResponse();
+        var stored = ItemResponse.of(ItemEntity.builder().id(UUID.randomUUID()).name("stored").build());
+        var missing = UUID.randomUUID();
+        var cache = new ConcurrentMapCache("item");
+        cache.put(CustomKeyGenerator.key("getItemById", cached.id()), cached);
+
+        when(cacheManager.getCache("item")).thenReturn(cache);
+        when(itemRepository.findResponsesByIdIn(List.of(stored.id(), missing)))
+                .thenReturn(List.of(stored));
+
+        var result = itemService.lookup(List.of(stored.id(), missing, cached.id(), stored.id()));
+
+        assertThat(result.items()).containsExactly(stored, cached);
+        assertThat(result.notFound()).containsExactly(missing);
+        assertThat(cache.get(CustomKeyGenerator.key("getItemById", stored.id())).get()).isEqualTo(stored);
+        verify(itemRepository, times(1)).findResponsesByIdIn(any());
+    }
+
+    @Test
+    void getAlLItems_firstPage_listOfItemsWithoutNextCursor() {
+        when(itemRepository.findAllByOrderByIdAsc(Limit.of(ItemService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(ItemFixture.listOfItemResponses());
+
+        var page = itemService.getAll(null, ItemService.DEFAULT_PAGE_SIZE);
+
+        assertThat(page.items())
+                .contains(ItemFixture.oneItemResponse());
+
+        assertThat(page.nextCursor())
+                .isNull();
+    }
+
+    @Test
+    void getAlLItems_pageIsFull_returnNextCursor() {
+        var cursor = UUID.fromString("003a83d8-2db7-4152-a243-95f484ff0c59");
+
+        when(itemRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(2)))
+                .thenReturn(ItemFixture.listOfItemResponses());
+
+        var page = itemService.getAll(cursor, 1);
 
-        var items = itemService.getAll();
+        assertThat(page.items())
+                .containsExactly(ItemFixture.oneItemResponse());
 
-        assertThat(items)
-                .contains(ItemFixture.oneItem());
+        assertThat(page.nextCursor())
+                .isEqualTo(ItemFixture.oneItem().getId());
     }
 
     @Test
@@ -80,15 +138,21 @@ public class ItemServiceTest {
         when(itemRepository.save(ItemFixture.oneItemValidToSave()))
                 .thenReturn(ItemFixture.oneItem());
 
-        doNothing().when(kafkaProducerService).sendMessage(any());
-
         var savedItem = itemService.saveOneItem(ItemFixture.oneItemValidToSave());
 
         assertThat(savedItem)
                 .isNotNull();
 
         assertThat(savedItem)
-                .isEqualTo(ItemFixture.oneItem());
+                .isEqualTo(ItemFixture.oneItemResponse());
+
+        var event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+
+        assertThat(event.getValue())
+                .isEqualTo(new ItemChangeEvent(ItemChangeEvent.Type.CREATED, ItemFixture.oneItem().getId(),
+                        ((ItemChangeEvent) event.getValue()).timestamp(), "Smartphone xyz", "Smartphone",
+                        BigDecimal.valueOf(12.33), 2, "Electronic"));
     }
 
     @Test
@@ -100,6 +164,8 @@ public class ItemServiceTest {
         assertThrows(DataIntegrityViolationException.class, () -> {
             itemService.saveOneItem(ItemFixture.oneItemInvalidToSave());
         });
+
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -113,7 +179,33 @@ public class ItemServiceTest {
                 .isNotNull();
 
         assertThat(savedItems)
-                .containsAll(ItemFixture.listOfItems());
+                .containsAll(ItemFixture.listOfItemResponses());
+
+        verify(eventPublisher, times(2)).publishEvent(any(ItemChangeEvent.class));
+    }
+
+    @Test
+    void saveListOfItem_largeList_flushesAndClearsEveryChunk() {
+        var items = IntStream.range(0, 1200)
+                .mapToObj(i -> ItemEntity.builder().name("Item " + i).price(BigDecimal.ONE).quantity(1).build())
+                .toList();
+        when(itemRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        var savedItems = itemService.saveAllItems(items);
+
+        assertThat(savedItems)
+                .hasSize(1200);
+
+        var chunks = ArgumentCaptor.forClass(List.class);
+        verify(itemRepository, times(3)).saveAll(chunks.capture());
+        assertThat(chunks.getAllValues())
+                .extracting(List::size)
+                .containsExactly(500, 500, 200);
+
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher, times(1200)).publishEvent(any(ItemChangeEvent.class));
     }
 
     @Test
@@ -126,41 +218,91 @@ public class ItemServiceTest {
 
         var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
 
-        when(itemRepository.findById(uuid))
-                .thenReturn(Optional.of(ItemFixture.oneItem()));
-
-        when(itemRepository.save(any()))
-                .thenReturn(ItemFixture.itemUpdated());
-
+        when(itemRepository.patch(uuid, "Smartphone dyz", null, BigDecimal.valueOf(100.01), null, null, null))
+                .thenReturn(Optional.of(ItemFixture.itemUpdated()));
 
         var updatedItem = itemService.updateItem(uuid, itemUpdateDto);
 
-        assertThat(updatedItem.getId())
+        assertThat(updatedItem.id())
                 .isEqualTo(uuid);
 
-        assertThat(updatedItem.getName())
+        assertThat(updatedItem.name())
                 .isEqualTo("Smartphone dyz");
 
-        assertThat(updatedItem.getPrice())
+        assertThat(updatedItem.price())
                 .isEqualTo(BigDecimal.valueOf(100.01));
+
+        verify(itemRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void updateItem_staleVersion_throwConflict() {
+        var itemUpdateDto = ItemUpdateDto
+                .builder()
+                .quantity(3)
+                .version(1L)
+                .build();
+
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+        when(itemRepository.patch(uuid, null, null, null, 3, null, 1L))
+                .thenReturn(Optional.empty());
+
+        when(itemRepository.existsById(uuid))
+                .thenReturn(true);
+
+        assertThrows(ItemVersionConflictException.class, () -> {
+            itemService.updateItem(uuid, itemUpdateDto);
+        });
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateItem_itemNotExist_throwException() {
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+        when(itemRepository.patch(uuid, "test", null, null, null, null, null))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ItemNotFoundException.class, () -> {
+            itemService.updateItem(uuid, ItemUpdateDto.builder().name("test").build());
+        });
     }
 
     @Test
     void deleteItem_itemExist_successfullyDeleteItem() {
         var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
 
-        when(itemRepository.findById(uuid))
-                .thenReturn(Optional.of(ItemFixture.oneItem()));
+        when(itemRepository.findResponseById(uuid))
+                .thenReturn(Optional.of(ItemFixture.oneItemResponse()));
 
         doNothing().when(itemRepository).deleteById(uuid);
 
-        itemService.deleteById(uuid);
+        itemService.deleteById(uuid, null);
 
-        when(itemRepository.findById(uuid))
+        when(itemRepository.findResponseById(uuid))
                 .thenReturn(Optional.empty());
 
         assertThrows(ItemNotFoundException.class, () -> {
-            itemService.deleteById(uuid);
+            itemService.deleteById(uuid, null);
+        });
+    }
+
+    @Test
+    void deleteItem_versionChanged_throwConflict() {
+        var uuid = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+        when(itemRepository.deleteByIdAndVersion(uuid, 1L))
+                .thenReturn(0);
+
+        when(itemRepository.existsById(uuid))
+                .thenReturn(true);
+
+        assertThrows(ItemVersionConflictException.class, () -> {
+            itemService.deleteById(uuid, 1L);
         });
+
+        verifyNoInteractions(eventPublisher);
     }
-}
\ No newline at end of file
+}
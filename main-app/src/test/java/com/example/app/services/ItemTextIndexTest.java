@@ -0,0 +1,90 @@
+package com.example.app.services;
+
+import com.example.app.dto.ItemResponse;
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(SpringExtension.class)
+class ItemTextIndexTest {
+
+    @Mock
+    private ItemService itemService;
+
+    @Test
+    void search_everyWordMatchesAPrefix_returnItem() {
+        var index = new ItemTextIndex(itemService, new SimpleMeterRegistry());
+        var phone = UUID.randomUUID();
+        var laptop = UUID.randomUUID();
+        index.onItemChanged(created(phone, "Smartphone XYZ", "Black, 128GB"));
+        index.onItemChanged(created(laptop, "Laptop", "Black aluminium"));
+
+        assertThat(index.search("smart", 10)).containsExactly(phone);
+        assertThat(index.search("BLACK", 10)).containsExactlyInAnyOrder(phone, laptop);
+        assertThat(index.search("black alu", 10)).containsExactly(laptop);
+        assertThat(index.search("black tablet", 10)).isEmpty();
+        assertThat(index.search("x", 10)).isEmpty();
+    }
+
+    @Test
+    void search_afterUpdateAndDelete_reflectLatestState() {
+        var index = new ItemTextIndex(itemService, new SimpleMeterRegistry());
+        var id = UUID.randomUUID();
+        index.onItemChanged(created(id, "Smartphone", "Black"));
+
+        index.onItemChanged(new ItemChangeEvent(ItemChangeEvent.Type.UPDATED, id, 0, "Smartphone", "White",
+                BigDecimal.ONE, 1, null));
+        assertThat(index.search("black", 10)).isEmpty();
+        assertThat(index.search("white", 10)).containsExactly(id);
+
+        index.onItemChanged(ItemChangeEvent.deleted(id));
+        assertThat(index.search("smartphone", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuild_changesLandingBeforeTheirRowsAreRead_win() {
+        var itemService = mock(ItemService.class);
+        var index = new ItemTextIndex(itemService, new SimpleMeterRegistry());
+        var deleted = UUID.randomUUID();
+        var updated = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<ItemResponse> rows = invocation.getArgument(0);
+            // both writes commit after the stream read these rows but before they are indexed
+            index.onItemChanged(ItemChangeEvent.deleted(deleted));
+            index.onItemChanged(new ItemChangeEvent(ItemChangeEvent.Type.UPDATED, updated, 0, "Tablet", "White",
+                    BigDecimal.ONE, 1, null));
+            rows.accept(row(deleted, "Smartphone", "Black"));
+            rows.accept(row(updated, "Laptop", "Black"));
+            return null;
+        }).when(itemService).streamAll(any());
+
+        index.rebuild();
+
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.search("black", 10)).isEmpty();
+        assertThat(index.search("tablet white", 10)).containsExactly(updated);
+
+        index.onItemChanged(created(deleted, "Smartphone", "Black"));
+        assertThat(index.search("black", 10)).containsExactly(deleted);
+    }
+
+    private static ItemResponse row(UUID id, String name, String description) {
+        return new ItemResponse(id, name, description, BigDecimal.ONE, 1, null, 1L);
+    }
+
+    private static ItemChangeEvent created(UUID id, String name, String description) {
+        return new ItemChangeEvent(ItemChangeEvent.Type.CREATED, id, 0, name, description, BigDecimal.ONE, 1, null);
+    }
+}
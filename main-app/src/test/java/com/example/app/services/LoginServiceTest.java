@@ -0,0 +1,110 @@
+package com.example.app.services;
+
+import com.example.app.config.LoginProperties;
+import com.example.app.exceptions.LoginOverloadedException;
+import com.example.app.exceptions.LoginRateLimitedException;
+import com.example.app.exceptions.UsernameNotFoundException;
+import com.example.app.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class LoginServiceTest {
+
+    private static final PasswordEncoder ENCODER = new BCryptPasswordEncoder(4);
+    private static final String ADMIN_HASH = ENCODER.encode("admin");
+
+    private final UserDetailService userDetailService = mock(UserDetailService.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final CacheManager cacheManager = mock(CacheManager.class);
+
+    private LoginService loginService;
+
+    @AfterEach
+    void tearDown() {
+        loginService.shutdown();
+    }
+
+    @Test
+    void login_validCredentials_checksPasswordOnceWhileCached() throws Exception {
+        var encoder = spy(ENCODER);
+        loginService = loginService(encoder, 1, 8, 10);
+
+        assertThat(loginService.login("admin", "admin", "10.0.0.1").get(5, TimeUnit.SECONDS)).isEqualTo("token");
+        assertThat(loginService.login("admin", "admin", "10.0.0.1").get(5, TimeUnit.SECONDS)).isEqualTo("token");
+
+        verify(encoder, times(1)).matches(anyString(), anyString());
+    }
+
+    @Test
+    void login_wrongPasswordOrUnknownUser_failsWithBadCredentials() {
+        loginService = loginService(ENCODER, 1, 8, 10);
+
+        assertFailsWith(loginService.login("admin", "wrong", "10.0.0.1"), BadCredentialsException.class);
+        assertFailsWith(loginService.login("nobody", "admin", "10.0.0.1"), BadCredentialsException.class);
+        verify(jwtUtil, never()).generateToken(anyString());
+    }
+
+    @Test
+    void login_tooManyAttemptsForUser_isRateLimited() {
+        loginService = loginService(ENCODER, 1, 8, 2);
+
+        assertFailsWith(loginService.login("admin", "wrong", "10.0.0.1"), BadCredentialsException.class);
+        assertFailsWith(loginService.login("admin", "wrong", "10.0.0.2"), BadCredentialsException.class);
+        assertFailsWith(loginService.login("admin", "admin", "10.0.0.3"), LoginRateLimitedException.class);
+    }
+
+    @Test
+    void login_verifyQueueFull_isRefusedWithoutWaiting() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return false;
+        });
+        loginService = loginService(encoder, 1, 1, 10);
+
+        var running = loginService.login("admin", "a", "10.0.0.1");
+        started.await(5, TimeUnit.SECONDS);
+        var queued = loginService.login("admin", "b", "10.0.0.1");
+        var refused = loginService.login("admin", "c", "10.0.0.1");
+
+        assertFailsWith(refused, LoginOverloadedException.class);
+        release.countDown();
+        assertFailsWith(running, BadCredentialsException.class);
+        assertFailsWith(queued, BadCredentialsException.class);
+    }
+
+    private LoginService loginService(PasswordEncoder encoder, int threads, int queueCapacity, int attemptsPerUser) {
+        when(cacheManager.getCache("credentials")).thenReturn(new ConcurrentMapCache("credentials"));
+        when(userDetailService.loadUserByUsername("admin"))
+                .thenReturn(User.withUsername("admin").password(ADMIN_HASH).build());
+        when(userDetailService.loadUserByUsername("nobody")).thenThrow(new UsernameNotFoundException());
+        when(jwtUtil.generateToken("admin")).thenReturn("token");
+
+        var properties = new LoginProperties(threads, queueCapacity, attemptsPerUser, 100, Duration.ofMinutes(1));
+        return new LoginService(userDetailService, encoder, jwtUtil, cacheManager, properties, new SimpleMeterRegistry());
+    }
+
+    private static void assertFailsWith(CompletableFuture<String> login, Class<? extends Throwable> failure) {
+        assertThat(login).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class)
+                .havingCause().isInstanceOf(failure);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.app.services;
+
+import com.example.app.dto.ItemUpdateDto;
+import com.example.app.entities.ItemEntity;
+import com.example.app.events.ItemEvents;
+import com.example.app.repositories.OutboxEventRepository;
+import com.example.events.ItemChangeEvent;
+import com.example.events.ItemChangeEventDeserializer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(kraft = true)
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        // the only relay in the test run, on an outbox no other cached context writes to or drops
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay-test",
+        "item.outbox.relay.poll-interval=20",
+        "item.outbox.relay.batch-size=16",
+        "item.outbox.relay.parallelism=3"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    private Consumer<String, ItemChangeEvent> consumer;
+
+    @BeforeEach
+    void subscribe() {
+        var props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", broker);
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        consumer = new KafkaConsumer<>(props, new StringDeserializer(), new ItemChangeEventDeserializer());
+
+        // pin the end offsets now, before the test writes; a subscription at "latest" resolves them lazily
+        var partitions = consumer.partitionsFor("item_challenge").stream()
+                .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                .toList();
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        partitions.forEach(consumer::position);
+    }
+
+    @AfterEach
+    void close() {
+        consumer.close();
+    }
+
+    @Test
+    void itemWrites_areRelayedInOrderPerItem_andRemovedFromTheOutbox() {
+        var items = itemService.saveAllItems(IntStream.range(0, 40).mapToObj(i -> item("Item " + i)).toList());
+        for (var item : items)
+            itemService.updateItem(item.id(), ItemUpdateDto.builder().quantity(7).build());
+        itemService.deleteById(items.get(0).id(), null);
+
+        var events = poll(items.size() * 2 + 1);
+
+        assertThat(events).hasSize(items.size() * 2 + 1);
+        for (var item : items) {
+            var types = events.stream()
+                    .filter(event -> event.itemId().equals(item.id()))
+                    .map(ItemChangeEvent::type)
+                    .toList();
+            if (item == items.get(0))
+                assertThat(types).containsExactly(ItemChangeEvent.Type.CREATED, ItemChangeEvent.Type.UPDATED,
+                        ItemChangeEvent.Type.DELETED);
+            else
+                assertThat(types).containsExactly(ItemChangeEvent.Type.CREATED, ItemChangeEvent.Type.UPDATED);
+        }
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void rolledBackWrite_leavesNoEvent() {
+        var item = item("Rolled back");
+        item.setId(UUID.randomUUID());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(ItemEvents.created(item));
+            status.setRollbackOnly();
+        });
+        var committed = itemService.saveOneItem(item("Committed"));
+
+        var events = poll(1);
+        assertThat(events).extracting(ItemChangeEvent::itemId).containsExactly(committed.id());
+    }
+
+    private List<ItemChangeEvent> poll(int expected) {
+        var events = new ArrayList<ItemChangeEvent>();
+        var deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (events.size() < expected && System.nanoTime() < deadline)
+            consumer.poll(Duration.ofMillis(200)).forEach(record -> events.add(record.value()));
+
+        // anything beyond the expected events would be a duplicate or a leaked rollback
+        consumer.poll(Duration.ofMillis(500)).forEach(record -> events.add(record.value()));
+        return events;
+    }
+
+    private static ItemEntity item(String name) {
+        return ItemEntity.builder()
+                .name(name)
+                .price(BigDecimal.TEN)
+                .quantity(1)
+                .category("test")
+                .build();
+    }
+}
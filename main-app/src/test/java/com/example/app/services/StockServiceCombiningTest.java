@@ -0,0 +1,132 @@
+package com.example.app.services;
+
+import com.example.app.entities.ItemEntity;
+import com.example.app.repositories.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives the combining path deterministically: the first reservation holds the stripe lock inside its UPDATE
+ * until two more reservations of the same item have queued behind it, so the next lock holder writes both.
+ */
+class StockServiceCombiningTest {
+
+    private static final UUID ITEM_ID = UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696");
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StockService stockService = new StockService(itemRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(ApplicationEventPublisher.class),
+            new ConcurrentMapCacheManager("item"), meterRegistry, 1);
+
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    private final AtomicInteger writes = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reserve_failedCombinedWrite_failsEveryQueuedReservation() throws Exception {
+        when(itemRepository.reserveStock(eq(ITEM_ID), anyInt())).thenAnswer(invocation -> {
+            if (writes.incrementAndGet() == 1)
+                return blockFirstWrite();
+            throw new CannotAcquireLockException("Lock wait timeout");
+        });
+
+        var first = reserveAsync(1);
+        firstWriteStarted.await(5, TimeUnit.SECONDS);
+        var second = reserveAsync(2);
+        var third = reserveAsync(3);
+        awaitQueued(2);
+        releaseFirstWrite.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertFailsWith(second, CannotAcquireLockException.class);
+        assertFailsWith(third, CannotAcquireLockException.class);
+        verify(itemRepository).reserveStock(ITEM_ID, 5);
+        verify(itemRepository, never()).existsById(ITEM_ID);
+    }
+
+    @Test
+    void reserve_combinedTotalBeyondInt_writesReservationsOneByOne() throws Exception {
+        when(itemRepository.reserveStock(eq(ITEM_ID), anyInt())).thenAnswer(invocation -> {
+            if (writes.incrementAndGet() == 1)
+                return blockFirstWrite();
+            return Optional.of(item());
+        });
+
+        var first = reserveAsync(1);
+        firstWriteStarted.await(5, TimeUnit.SECONDS);
+        var second = reserveAsync(1_500_000_000);
+        var third = reserveAsync(1_500_000_000);
+        awaitQueued(2);
+        releaseFirstWrite.countDown();
+
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+        verify(itemRepository, times(2)).reserveStock(ITEM_ID, 1_500_000_000);
+        verify(itemRepository, never()).reserveStock(eq(ITEM_ID), intThat(amount -> amount <= 0));
+    }
+
+    private Optional<ItemEntity> blockFirstWrite() throws InterruptedException {
+        firstWriteStarted.countDown();
+        releaseFirstWrite.await(5, TimeUnit.SECONDS);
+        return Optional.of(item());
+    }
+
+    private CompletableFuture<Void> reserveAsync(int quantity) {
+        return CompletableFuture.runAsync(() -> stockService.reserve(ITEM_ID, quantity), executor);
+    }
+
+    /**
+     * A reservation is queued before it counts as contended.
+     */
+    private void awaitQueued(int reservations) throws InterruptedException {
+        var contended = meterRegistry.counter("item.stock.contended");
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (contended.count() < reservations && System.nanoTime() < deadline)
+            Thread.sleep(10);
+    }
+
+    private static ItemEntity item() {
+        return ItemEntity.builder()
+                .id(ITEM_ID)
+                .name("Stock test")
+                .price(BigDecimal.ONE)
+                .quantity(1)
+                .version(1L)
+                .build();
+    }
+
+    private static void assertFailsWith(CompletableFuture<Void> future, Class<? extends Throwable> type) {
+        var failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(failure.getCause()).isInstanceOf(type);
+    }
+}
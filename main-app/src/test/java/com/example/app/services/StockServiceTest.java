@@ -0,0 +1,106 @@
+package com.example.app.services;
+
+import com.example.app.entities.ItemEntity;
+import com.example.app.exceptions.InsufficientStockException;
+import com.example.app.exceptions.ItemNotFoundException;
+import com.example.app.exceptions.StockLimitExceededException;
+import com.example.app.repositories.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "item.outbox.relay.enabled=false")
+class StockServiceTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @MockBean
+    private KafkaProducerService kafkaProducerService;
+
+    @Test
+    void reserve_concurrentOrders_neverOversell() throws Exception {
+        var itemId = newItem(100);
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int i = 0; i < 300; i++) {
+            tasks.add(() -> {
+                try {
+                    stockService.reserve(itemId, 1);
+                    return true;
+                } catch (InsufficientStockException e) {
+                    return false;
+                }
+            });
+        }
+
+        int reserved = 0;
+        var executor = Executors.newFixedThreadPool(32);
+        try {
+            for (Future<Boolean> result : executor.invokeAll(tasks))
+                if (result.get())
+                    reserved++;
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(100, reserved);
+        assertEquals(0, itemRepository.findById(itemId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void reserve_moreThanInStock_throwConflict() {
+        var itemId = newItem(2);
+
+        assertThrows(InsufficientStockException.class, () -> stockService.reserve(itemId, 3));
+        assertEquals(2, itemRepository.findById(itemId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void release_returnsStock() {
+        var itemId = newItem(2);
+
+        stockService.reserve(itemId, 2);
+        stockService.release(itemId, 1);
+
+        assertEquals(1, itemRepository.findById(itemId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void release_beyondIntegerStock_throwConflict() {
+        var itemId = newItem(Integer.MAX_VALUE - 10);
+
+        assertThrows(StockLimitExceededException.class, () -> stockService.release(itemId, 11));
+        assertEquals(Integer.MAX_VALUE - 10, itemRepository.findById(itemId).orElseThrow().getQuantity());
+
+        stockService.release(itemId, 10);
+        assertEquals(Integer.MAX_VALUE, itemRepository.findById(itemId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void reserve_itemNotExist_throwException() {
+        assertThrows(ItemNotFoundException.class, () -> stockService.reserve(UUID.randomUUID(), 1));
+        assertThrows(ItemNotFoundException.class, () -> stockService.release(UUID.randomUUID(), 1));
+    }
+
+    private UUID newItem(int quantity) {
+        return itemRepository.save(ItemEntity.builder()
+                .name("Stock test")
+                .price(BigDecimal.ONE)
+                .quantity(quantity)
+                .build()).getId();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.app.testFixtures;
 
+import com.example.app.dto.ItemResponse;
 import com.example.app.entities.ItemEntity;
 
 import java.math.BigDecimal;
@@ -30,6 +31,10 @@ public class ItemFixture {
                 .build();
     }
 
+    public static ItemResponse oneItemResponse() {
+        return ItemResponse.of(oneItem());
+    }
+
     public static ItemEntity itemUpdated() {
         return itemA()
                 .id(UUID.fromString("4c22732f-f4f7-436d-9620-c8bcf9fdc696"))
@@ -43,6 +48,10 @@ public class ItemFixture {
         return List.of(oneItem(), itemB().id(UUID.fromString("003a83d8-2db7-4152-a243-95f484ff0c59")).quantity(1).build());
     }
 
+    public static List<ItemResponse> listOfItemResponses() {
+        return listOfItems().stream().map(ItemResponse::of).toList();
+    }
+
     public static ItemEntity oneItemValidToSave() {
         return itemA().quantity(2).build();
     }
@@ -0,0 +1,33 @@
+package com.example.reactive.config;
+
+import com.example.reactive.exceptions.ItemNotFoundException;
+import com.example.reactive.exceptions.ItemVersionConflictException;
+import com.example.reactive.handlers.ItemHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class ItemRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> itemRoutes(ItemHandler itemHandler) {
+        return RouterFunctions.route()
+                .path("/api/v1/item", items -> items
+                        .GET("/stream", itemHandler::streamAll)
+                        .GET("/{uuid}", itemHandler::getItemById)
+                        .GET(itemHandler::getAll)
+                        .POST("/saveAll", itemHandler::saveItemList)
+                        .POST(itemHandler::saveOneItem)
+                        .PUT("/{uuid}", itemHandler::updateItem)
+                        .DELETE("/{uuid}", itemHandler::deleteItem))
+                .onError(ItemNotFoundException.class, (e, request) ->
+                        ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(e.getMessage()))
+                .onError(ItemVersionConflictException.class, (e, request) ->
+                        ServerResponse.status(HttpStatus.CONFLICT).bodyValue(e.getMessage()))
+                .build();
+    }
+}
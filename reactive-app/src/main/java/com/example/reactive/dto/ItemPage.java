@@ -0,0 +1,9 @@
+package com.example.reactive.dto;
+
+import com.example.reactive.entities.ItemEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ItemPage(List<ItemEntity> items, UUID nextCursor) {
+}
@@ -0,0 +1,40 @@
+package com.example.reactive.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemUpdateDto {
+
+    /**
+     * Null fields are left unchanged, so only present values are constrained, to what the columns hold.
+     */
+    @Size(min = 1, max = 100)
+    private String name;
+
+    @PositiveOrZero
+    private BigDecimal price;
+
+    @Size(max = 300)
+    private String description;
+
+    @PositiveOrZero
+    private Integer quantity;
+
+    @Size(max = 100)
+    private String category;
+
+    /**
+     * Expected current version of the item; when present the update is rejected if the item changed meanwhile.
+     */
+    private Long version;
+}
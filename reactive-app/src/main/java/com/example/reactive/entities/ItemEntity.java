@@ -0,0 +1,42 @@
+package com.example.reactive.entities;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The {@code item_entity} row main-app maps with JPA, mapped for R2DBC. Ids are assigned by the service; a null
+ * version marks a row that still has to be inserted.
+ */
+@Table("item_entity")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@ToString
+public class ItemEntity {
+
+    @Id
+    private UUID id;
+
+    @NotNull
+    private String name;
+
+    private String description;
+
+    @NotNull
+    private BigDecimal price;
+
+    @NotNull
+    private Integer quantity;
+
+    private String category;
+
+    @Version
+    private Long version;
+}
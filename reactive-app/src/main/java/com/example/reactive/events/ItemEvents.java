@@ -0,0 +1,26 @@
+package com.example.reactive.events;
+
+import com.example.events.ItemChangeEvent;
+import com.example.reactive.entities.ItemEntity;
+
+/**
+ * Maps item writes to the {@link ItemChangeEvent} handed to the Kafka sender once the write has completed.
+ */
+public final class ItemEvents {
+
+    private ItemEvents() {
+    }
+
+    public static ItemChangeEvent created(ItemEntity item) {
+        return of(ItemChangeEvent.Type.CREATED, item);
+    }
+
+    public static ItemChangeEvent updated(ItemEntity item) {
+        return of(ItemChangeEvent.Type.UPDATED, item);
+    }
+
+    private static ItemChangeEvent of(ItemChangeEvent.Type type, ItemEntity item) {
+        return new ItemChangeEvent(type, item.getId(), System.currentTimeMillis(), item.getName(),
+                item.getDescription(), item.getPrice(), item.getQuantity(), item.getCategory());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.reactive.exceptions;
+
+public class ItemVersionConflictException extends RuntimeException {
+
+    public ItemVersionConflictException(String message) {
+        super(message);
+    }
+}
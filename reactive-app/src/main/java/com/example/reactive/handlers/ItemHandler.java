@@ -0,0 +1,111 @@
+package com.example.reactive.handlers;
+
+import com.example.reactive.dto.ItemUpdateDto;
+import com.example.reactive.entities.ItemEntity;
+import com.example.reactive.services.ItemService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Handlers behind {@code /api/v1/item} routes, mirroring main-app's ItemController responses.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemHandler {
+
+    private static final ParameterizedTypeReference<List<ItemEntity>> ITEM_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final ItemService itemService;
+    private final Validator validator;
+
+    public Mono<ServerResponse> getItemById(ServerRequest request) {
+        return itemService.getItemById(uuid(request))
+                .flatMap(item -> ServerResponse.ok().bodyValue(item));
+    }
+
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        var cursor = request.queryParam("cursor").map(ItemHandler::parseUuid).orElse(null);
+        var limit = request.queryParam("limit").map(ItemHandler::parseInt).orElse(ItemService.DEFAULT_PAGE_SIZE);
+        return itemService.getAll(cursor, limit)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    public Mono<ServerResponse> streamAll(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(itemService.streamAll(), ItemEntity.class);
+    }
+
+    public Mono<ServerResponse> saveOneItem(ServerRequest request) {
+        return request.bodyToMono(ItemEntity.class)
+                .map(this::validate)
+                .flatMap(itemService::saveOneItem)
+                .flatMap(saved -> ServerResponse.status(HttpStatus.CREATED).bodyValue(saved));
+    }
+
+    public Mono<ServerResponse> saveItemList(ServerRequest request) {
+        return request.bodyToMono(ITEM_LIST)
+                .map(items -> {
+                    items.forEach(this::validate);
+                    return items;
+                })
+                .flatMap(itemService::saveAllItems)
+                .flatMap(saved -> ServerResponse.status(HttpStatus.CREATED).bodyValue(saved));
+    }
+
+    public Mono<ServerResponse> updateItem(ServerRequest request) {
+        var id = uuid(request);
+        return request.bodyToMono(ItemUpdateDto.class)
+                .map(this::validate)
+                .flatMap(update -> itemService.updateItem(id, update))
+                .flatMap(updated -> ServerResponse.ok().bodyValue(updated));
+    }
+
+    public Mono<ServerResponse> deleteItem(ServerRequest request) {
+        return itemService.deleteById(uuid(request))
+                .then(ServerResponse.ok().build());
+    }
+
+    private <T> T validate(T body) {
+        var violations = validator.validate(body);
+        if (!violations.isEmpty())
+            throw new ServerWebInputException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        return body;
+    }
+
+    private static UUID uuid(ServerRequest request) {
+        return parseUuid(request.pathVariable("uuid"));
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("Invalid id " + value);
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Invalid number " + value);
+        }
+    }
+}
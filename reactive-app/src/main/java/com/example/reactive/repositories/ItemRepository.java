@@ -0,0 +1,47 @@
+package com.example.reactive.repositories;
+
+import com.example.reactive.entities.ItemEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Repository
+public interface ItemRepository extends ReactiveCrudRepository<ItemEntity, UUID> {
+
+    Flux<ItemEntity> findAllByOrderByIdAsc(Limit limit);
+
+    Flux<ItemEntity> findByIdGreaterThanOrderByIdAsc(UUID cursor, Limit limit);
+
+    Flux<ItemEntity> findAllByOrderByIdAsc();
+
+    /**
+     * Same single-statement partial update as main-app: null arguments keep the column, a non-null
+     * {@code version} must match. Empty when the item does not exist or is at another version.
+     */
+    @Query("""
+            SELECT * FROM FINAL TABLE (
+                UPDATE item_entity SET
+                    name = COALESCE(CAST(:name AS VARCHAR(100)), name),
+                    description = COALESCE(CAST(:description AS VARCHAR(300)), description),
+                    price = COALESCE(CAST(:price AS NUMERIC(38, 2)), price),
+                    quantity = COALESCE(CAST(:quantity AS INTEGER), quantity),
+                    category = COALESCE(CAST(:category AS VARCHAR(100)), category),
+                    version = version + 1
+                WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            )
+            """)
+    Mono<ItemEntity> patch(@Param("id") UUID id,
+                           @Param("name") String name,
+                           @Param("description") String description,
+                           @Param("price") BigDecimal price,
+                           @Param("quantity") Integer quantity,
+                           @Param("category") String category,
+                           @Param("version") Long version);
+}
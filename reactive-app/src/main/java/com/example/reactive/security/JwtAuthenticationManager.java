@@ -0,0 +1,39 @@
+package com.example.reactive.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Turns the raw bearer token (carried as credentials) into an authenticated principal. Verification is CPU-only
+ * and usually a cache hit, so it runs inline on the event loop.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtVerifier jwtVerifier;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.fromCallable(() -> {
+            var token = (String) authentication.getCredentials();
+            VerifiedToken verified;
+            try {
+                verified = jwtVerifier.verify(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new BadCredentialsException("Invalid token", e);
+            }
+            if (verified.username() == null || verified.isExpired())
+                throw new BadCredentialsException("Invalid token");
+            return UsernamePasswordAuthenticationToken.authenticated(
+                    verified.username(), token, AuthorityUtils.NO_AUTHORITIES);
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.reactive.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Verifies tokens issued by main-app's {@code /api/authenticate}; both apps must share {@code jwt.secret}.
+ * This app has no user store, so a correctly signed, unexpired token is the whole authentication.
+ */
+@Component
+public class JwtVerifier {
+
+    @Value("${jwt.secret}")
+    private String secretKey;
+
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize;
+
+    private Key signingKey;
+
+    /**
+     * SHA-256 digests of tokens whose signature was already checked, each expiring with the token's exp.
+     */
+    private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(Base64.getDecoder().decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
+    /**
+     * Parses and verifies the token at most once while it is valid, later calls are served from the cache.
+     * A token without an exp claim is rejected: it would never expire and could not be cached.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, badly signed, expired or has no exp
+     */
+    public VerifiedToken verify(String token) {
+        var digest = digest(token);
+        var verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null)
+            return verified;
+
+        Jws<Claims> jws = Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        if (claims.getExpiration() == null)
+            throw new MissingClaimException(jws.getHeader(), claims, "JWT has no " + Claims.EXPIRATION + " claim");
+
+        verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            var sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiration implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.reactive.services;
+
+import com.example.events.ItemChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.concurrent.Queues;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds item events into one long-lived reactor-kafka send pipeline. Request handlers only enqueue, so a slow
+ * or unreachable broker never holds an event-loop thread; the queue is bounded by {@code item.events.buffer-size}
+ * and events that do not fit are dropped and counted in {@code item.events.dropped}.
+ * <p>
+ * Delivery is at most once. Events are enqueued after the R2DBC write commits and live only in memory, so an
+ * event is lost when the buffer is full, the broker rejects it, or the process stops before sending it. This is
+ * weaker than main-app's transactional outbox, which publishes every committed change to the same topic at least
+ * once; consumers of item_challenge may therefore miss changes made through this app.
+ */
+@Slf4j
+@Component
+public class ItemEventPublisher {
+
+    private final Sinks.Many<ItemChangeEvent> events;
+    private final KafkaSender<String, ItemChangeEvent> sender;
+    private final Disposable pipeline;
+    private final Counter dropped;
+
+    public ItemEventPublisher(KafkaProperties kafkaProperties,
+                              MeterRegistry meterRegistry,
+                              @Value("${item.events.topic}") String topic,
+                              @Value("${item.events.buffer-size}") int bufferSize) {
+        this.events = Sinks.many().unicast().onBackpressureBuffer(Queues.<ItemChangeEvent>get(bufferSize).get());
+        this.sender = KafkaSender.create(SenderOptions.<String, ItemChangeEvent>create(kafkaProperties.buildProducerProperties(null))
+                .stopOnError(false));
+        this.dropped = Counter.builder("item.events.dropped")
+                .description("Item events discarded because the send buffer was full")
+                .register(meterRegistry);
+
+        var sendTimer = Timer.builder("item.events.send")
+                .description("Time from handing an item event to the sender until the broker acknowledged it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        var sendErrors = Counter.builder("item.events.send.errors")
+                .description("Item events the broker did not acknowledge")
+                .register(meterRegistry);
+
+        this.pipeline = sender.send(events.asFlux().map(event -> SenderRecord.create(
+                        new ProducerRecord<>(topic, event.itemId().toString(), event), System.nanoTime())))
+                .subscribe(result -> {
+                    sendTimer.record(System.nanoTime() - result.correlationMetadata(), TimeUnit.NANOSECONDS);
+                    if (result.exception() != null) {
+                        sendErrors.increment();
+                        log.error("Failed to publish item event: {}", result.exception().getMessage());
+                    }
+                }, error -> log.error("Item event pipeline stopped", error));
+    }
+
+    public void publish(ItemChangeEvent event) {
+        Sinks.EmitResult result;
+        while ((result = events.tryEmitNext(event)) == Sinks.EmitResult.FAIL_NON_SERIALIZED)
+            Thread.onSpinWait();
+
+        if (result.isFailure()) {
+            dropped.increment();
+            log.warn("Dropped {} event for item {}: {}", event.type(), event.itemId(), result);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        events.tryEmitComplete();
+        pipeline.dispose();
+        sender.close();
+    }
+}
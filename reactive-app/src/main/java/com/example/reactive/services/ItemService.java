@@ -0,0 +1,110 @@
+package com.example.reactive.services;
+
+import com.example.events.ItemChangeEvent;
+import com.example.reactive.dto.ItemPage;
+import com.example.reactive.dto.ItemUpdateDto;
+import com.example.reactive.entities.ItemEntity;
+import com.example.reactive.events.ItemEvents;
+import com.example.reactive.exceptions.ItemNotFoundException;
+import com.example.reactive.exceptions.ItemVersionConflictException;
+import com.example.reactive.repositories.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ItemService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ItemEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final int streamPrefetch;
+
+    public ItemService(ItemRepository itemRepository,
+                       ItemEventPublisher eventPublisher,
+                       TransactionalOperator transactionalOperator,
+                       @Value("${item.stream.prefetch}") int streamPrefetch) {
+        this.itemRepository = itemRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionalOperator = transactionalOperator;
+        this.streamPrefetch = streamPrefetch;
+    }
+
+    public Mono<ItemEntity> getItemById(UUID id) {
+        return itemRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ItemNotFoundException("Item " + id + " not found")));
+    }
+
+    /**
+     * Keyset page on the primary key, same contract as main-app: up to {@code limit} items after {@code cursor}
+     * and the cursor of the next page, if any.
+     */
+    public Mono<ItemPage> getAll(UUID cursor, int limit) {
+        var pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var window = Limit.of(pageSize + 1);
+
+        var items = cursor == null
+                ? itemRepository.findAllByOrderByIdAsc(window)
+                : itemRepository.findByIdGreaterThanOrderByIdAsc(cursor, window);
+
+        return items.collectList().map(rows -> {
+            if (rows.size() <= pageSize)
+                return new ItemPage(rows, null);
+            var page = List.copyOf(rows.subList(0, pageSize));
+            return new ItemPage(page, page.get(pageSize - 1).getId());
+        });
+    }
+
+    /**
+     * Every item in id order, pulled from the database only as fast as the client reads: at most
+     * {@code item.stream.prefetch} rows are requested ahead of what has been written to the connection.
+     */
+    public Flux<ItemEntity> streamAll() {
+        return itemRepository.findAllByOrderByIdAsc().limitRate(streamPrefetch);
+    }
+
+    public Mono<ItemEntity> saveOneItem(ItemEntity item) {
+        return itemRepository.save(asNew(item))
+                .doOnNext(saved -> eventPublisher.publish(ItemEvents.created(saved)));
+    }
+
+    public Mono<List<ItemEntity>> saveAllItems(List<ItemEntity> items) {
+        return itemRepository.saveAll(items.stream().map(ItemService::asNew).toList())
+                .collectList()
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> saved.forEach(item -> eventPublisher.publish(ItemEvents.created(item))));
+    }
+
+    public Mono<ItemEntity> updateItem(UUID id, ItemUpdateDto newItem) {
+        return itemRepository.patch(id, newItem.getName(), newItem.getDescription(), newItem.getPrice(),
+                        newItem.getQuantity(), newItem.getCategory(), newItem.getVersion())
+                .switchIfEmpty(Mono.defer(() -> itemRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                        ? new ItemVersionConflictException("Item " + id + " is no longer at version " + newItem.getVersion())
+                        : new ItemNotFoundException("Item " + id + " not found")))))
+                .doOnNext(updated -> eventPublisher.publish(ItemEvents.updated(updated)));
+    }
+
+    public Mono<Void> deleteById(UUID id) {
+        return getItemById(id)
+                .flatMap(item -> itemRepository.deleteById(item.getId()))
+                .doOnSuccess(done -> eventPublisher.publish(ItemChangeEvent.deleted(id)));
+    }
+
+    /**
+     * Creation always inserts under a fresh id; updates go through {@link #updateItem(UUID, ItemUpdateDto)}.
+     */
+    private static ItemEntity asNew(ItemEntity item) {
+        item.setId(UUID.randomUUID());
+        item.setVersion(null);
+        return item;
+    }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS item_entity (
+    id          UUID PRIMARY KEY,
+    name        VARCHAR(100)   NOT NULL,
+    description VARCHAR(300),
+    price       NUMERIC(38, 2) NOT NULL,
+    quantity    INTEGER        NOT NULL,
+    category    VARCHAR(100),
+    version     BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_item_category_price ON item_entity (category, price, id);
+CREATE INDEX IF NOT EXISTS idx_item_price ON item_entity (price, id);
+CREATE INDEX IF NOT EXISTS idx_item_name ON item_entity (name, id);
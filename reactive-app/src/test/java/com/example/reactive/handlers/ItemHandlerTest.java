@@ -0,0 +1,197 @@
+package com.example.reactive.handlers;
+
+import com.example.reactive.dto.ItemPage;
+import com.example.reactive.dto.ItemUpdateDto;
+import com.example.reactive.entities.ItemEntity;
+import com.example.reactive.services.ItemEventPublisher;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItemHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ItemEventPublisher eventPublisher;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setup() {
+        var key = new SecretKeySpec(Base64.getDecoder().decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        var token = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, key)
+                .compact();
+        client = webTestClient.mutate()
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
+    }
+
+    @Test
+    void saveGetUpdateDelete_shouldFollowItemLifecycle() {
+        var saved = client.post().uri("/api/v1/item")
+                .bodyValue(item("Keyboard"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ItemEntity.class).returnResult().getResponseBody();
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        verify(eventPublisher).publish(any());
+
+        client.get().uri("/api/v1/item/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("Keyboard");
+
+        var update = ItemUpdateDto.builder().price(BigDecimal.valueOf(20)).version(0L).build();
+        client.put().uri("/api/v1/item/{id}", saved.getId())
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.price").isEqualTo(20)
+                .jsonPath("$.name").isEqualTo("Keyboard")
+                .jsonPath("$.version").isEqualTo(1);
+
+        client.put().uri("/api/v1/item/{id}", saved.getId())
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        client.delete().uri("/api/v1/item/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk();
+
+        client.get().uri("/api/v1/item/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void saveItemList_shouldRejectInvalidItems() {
+        client.post().uri("/api/v1/item/saveAll")
+                .bodyValue(List.of(item("Mouse"), ItemEntity.builder().name("No price").quantity(1).build()))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void updateItem_shouldRejectInvalidUpdate() {
+        var saved = client.post().uri("/api/v1/item")
+                .bodyValue(item("Keyboard"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ItemEntity.class).returnResult().getResponseBody();
+
+        client.put().uri("/api/v1/item/{id}", saved.getId())
+                .bodyValue(ItemUpdateDto.builder().quantity(-1).build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.put().uri("/api/v1/item/{id}", saved.getId())
+                .bodyValue(ItemUpdateDto.builder().name("x".repeat(101)).build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.get().uri("/api/v1/item/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.quantity").isEqualTo(5)
+                .jsonPath("$.name").isEqualTo("Keyboard");
+    }
+
+    @Test
+    void getAllAndStream_shouldReturnEveryItemInIdOrder() {
+        client.post().uri("/api/v1/item/saveAll")
+                .bodyValue(List.of(item("A"), item("B"), item("C")))
+                .exchange()
+                .expectStatus().isCreated();
+
+        var page = client.get().uri("/api/v1/item?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ItemPage.class).returnResult().getResponseBody();
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isEqualTo(page.items().get(1).getId());
+
+        var streamed = client.get().uri("/api/v1/item/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ItemEntity.class)
+                .getResponseBody()
+                .map(ItemEntity::getId)
+                .collectList()
+                .block();
+        assertThat(streamed).hasSizeGreaterThanOrEqualTo(3)
+                .startsWith(page.items().stream().map(ItemEntity::getId).toArray(UUID[]::new));
+    }
+
+    @Test
+    void getItemById_shouldReturnBadRequest_whenIdIsNotAUuid() {
+        client.get().uri("/api/v1/item/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void requests_shouldBeForbidden_withoutValidToken() {
+        webTestClient.get().uri("/api/v1/item/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/api/v1/item/{id}", UUID.randomUUID())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not.a.token")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        var key = new SecretKeySpec(Base64.getDecoder().decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        var withoutExpiration = Jwts.builder()
+                .setSubject("user")
+                .signWith(SignatureAlgorithm.HS256, key)
+                .compact();
+        webTestClient.get().uri("/api/v1/item/{id}", UUID.randomUUID())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + withoutExpiration)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    private static ItemEntity item(String name) {
+        return ItemEntity.builder()
+                .name(name)
+                .price(BigDecimal.TEN)
+                .quantity(5)
+                .category("Electronics")
+                .build();
+    }
+}